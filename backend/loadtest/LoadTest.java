@@ -0,0 +1,340 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load generator for the backend. Seeds its own user, workspace, projects and issues, then
+ * runs each configured concurrency level for a warmup and a measured window and reports throughput and
+ * latency percentiles per endpoint. Needs only a JDK 21: {@code java LoadTest.java loadtest.properties}.
+ *
+ * <p>Optional arguments: {@code --label <name>} tags the result rows and {@code --out <file>} appends them to
+ * a Markdown table.
+ */
+public class LoadTest {
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern ISSUE_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)\\s*,\\s*\"title\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private record Endpoint(String name, int weight) {
+    }
+
+    private record Result(String endpoint, long requests, long errors, double rps, double p50, double p99,
+            double max) {
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+
+    private final Properties config;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<Endpoint> mix = new ArrayList<>();
+    private final Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+    private String token;
+    private long workspaceId;
+    private long[] issueIds;
+
+    LoadTest(Properties config) {
+        this.config = config;
+        this.baseUrl = config.getProperty("baseUrl", "http://localhost:8080");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        for (String name : List.of("board", "issue", "projects", "stats", "patch")) {
+            int weight = Integer.parseInt(config.getProperty("mix." + name, "0"));
+            if (weight > 0) {
+                mix.add(new Endpoint(name, weight));
+            }
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String send(HttpRequest request, int expected) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expected) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private String post(String path, String json, int expected) throws IOException, InterruptedException {
+        return send(request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build(), expected);
+    }
+
+    private static List<Long> ids(Pattern pattern, String body) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = pattern.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        String name = "load-" + UUID.randomUUID().toString().substring(0, 8);
+        String auth = post("/v1/auth/signup", "{\"username\":\"" + name + "\",\"email\":\"" + name
+                + "@example.com\",\"password\":\"Loadtest1\"}", 201);
+        Matcher matcher = ACCESS_TOKEN.matcher(auth);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No access token in signup response");
+        }
+        token = matcher.group(1);
+
+        workspaceId = ids(ID, post("/v1/workspaces", "{\"name\":\"" + name + "\"}", 201)).get(0);
+        int projects = Integer.parseInt(config.getProperty("seed.projects", "10"));
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < projects; i++) {
+            projectIds.add(ids(ID, post("/v1/workspaces/" + workspaceId + "/projects",
+                    "{\"name\":\"Project " + i + "\"}", 201)).get(0));
+        }
+
+        String[] statuses = { "BACKLOG", "TO_DO", "IN_PROGRESS", "DONE", "CANCELED" };
+        String[] priorities = { "NONE", "LOW", "MEDIUM", "HIGH", "CRITICAL" };
+        int issues = Integer.parseInt(config.getProperty("seed.issues", "1000"));
+        List<Long> created = new ArrayList<>();
+        for (int from = 0; from < issues; from += 1000) {
+            StringBuilder json = new StringBuilder("{\"issues\":[");
+            for (int i = from; i < Math.min(from + 1000, issues); i++) {
+                if (i > from) {
+                    json.append(',');
+                }
+                json.append("{\"title\":\"Issue ").append(i)
+                        .append("\",\"description\":\"Seeded for the load test\",\"status\":\"")
+                        .append(statuses[i % statuses.length]).append("\",\"priority\":\"")
+                        .append(priorities[i % priorities.length]).append('"');
+                if (!projectIds.isEmpty() && i % 4 != 0) {
+                    json.append(",\"projectId\":").append(projectIds.get(i % projectIds.size()));
+                }
+                json.append('}');
+            }
+            json.append("]}");
+            String body = post("/v1/workspaces/" + workspaceId + "/issues/bulk", json.toString(), 201);
+            // Nested projects have an id too, but only issues follow it with a title.
+            created.addAll(ids(ISSUE_ID, body));
+        }
+        issueIds = created.stream().mapToLong(Long::longValue).toArray();
+        System.out.printf("Seeded workspace %d with %d projects and %d issues%n", workspaceId, projects,
+                issueIds.length);
+    }
+
+    private Endpoint pick() {
+        int total = mix.stream().mapToInt(Endpoint::weight).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Endpoint endpoint : mix) {
+            roll -= endpoint.weight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private HttpRequest build(Endpoint endpoint, int client, long sequence) {
+        String workspace = "/v1/workspaces/" + workspaceId;
+        long issueId = issueIds[ThreadLocalRandom.current().nextInt(issueIds.length)];
+        return switch (endpoint.name()) {
+            case "board" -> request(workspace + "/issues?groupBy=status").GET().build();
+            case "issue" -> request(workspace + "/issues/" + issueId).GET().build();
+            case "projects" -> request(workspace + "/projects").GET().build();
+            case "stats" -> request(workspace + "/issues/stats").GET().build();
+            case "patch" -> {
+                // Each client patches its own slice of issues so concurrent patches rarely touch the same row.
+                long own = issueIds[(int) ((client + sequence * 7919) % issueIds.length)];
+                yield request(workspace + "/issues/" + own)
+                        .header("Content-Type", "application/merge-patch+json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                "{\"title\":\"Patched " + client + "-" + sequence + "\"}"))
+                        .build();
+            }
+            default -> throw new IllegalArgumentException(endpoint.name());
+        };
+    }
+
+    private List<Result> run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Map<String, Recorder>> recorders = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        statuses.clear();
+
+        for (int c = 0; c < concurrency; c++) {
+            Map<String, Recorder> own = new LinkedHashMap<>();
+            mix.forEach(endpoint -> own.put(endpoint.name(), new Recorder()));
+            recorders.add(own);
+            int clientIndex = c;
+            threads.add(Thread.ofVirtual().start(() -> {
+                long sequence = 0;
+                while (true) {
+                    long now = System.nanoTime();
+                    if (now >= end) {
+                        return;
+                    }
+                    Endpoint endpoint = pick();
+                    HttpRequest request = build(endpoint, clientIndex, sequence++);
+                    int status;
+                    try {
+                        HttpResponse<InputStream> response = client.send(request,
+                                HttpResponse.BodyHandlers.ofInputStream());
+                        try (InputStream body = response.body()) {
+                            body.transferTo(OutputStream.nullOutputStream());
+                        }
+                        status = response.statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long finished = System.nanoTime();
+                    if (now >= measureFrom && finished <= end) {
+                        statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                        own.get(endpoint.name()).record(finished - now, status >= 200 && status < 300);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<Result> results = new ArrayList<>();
+        List<String> names = new ArrayList<>(mix.stream().map(Endpoint::name).toList());
+        names.add("all");
+        for (String name : names) {
+            long count = 0;
+            long errors = 0;
+            for (Map<String, Recorder> own : recorders) {
+                for (Map.Entry<String, Recorder> entry : own.entrySet()) {
+                    if (name.equals("all") || name.equals(entry.getKey())) {
+                        count += entry.getValue().size;
+                        errors += entry.getValue().errors;
+                    }
+                }
+            }
+            long[] merged = new long[(int) count];
+            int offset = 0;
+            for (Map<String, Recorder> own : recorders) {
+                for (Map.Entry<String, Recorder> entry : own.entrySet()) {
+                    if (name.equals("all") || name.equals(entry.getKey())) {
+                        Recorder recorder = entry.getValue();
+                        System.arraycopy(recorder.latencies, 0, merged, offset, recorder.size);
+                        offset += recorder.size;
+                    }
+                }
+            }
+            Arrays.sort(merged);
+            results.add(new Result(name, count, errors, count / (duration.toNanos() / 1e9),
+                    percentile(merged, 0.50), percentile(merged, 0.99),
+                    merged.length == 0 ? 0 : merged[merged.length - 1] / 1e6));
+        }
+        return results;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: java LoadTest.java <loadtest.properties> [--label <name>] [--out <file>]");
+            System.exit(2);
+        }
+        Properties config = new Properties();
+        try (InputStream input = Files.newInputStream(Path.of(args[0]))) {
+            config.load(input);
+        }
+        String label = "run";
+        Path out = null;
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--label" -> label = args[i + 1];
+                case "--out" -> out = Path.of(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith("loadtest."))
+                .forEach(key -> config.setProperty(key.substring("loadtest.".length()), System.getProperty(key)));
+
+        LoadTest test = new LoadTest(config);
+        test.seed();
+        Duration warmup = Duration.parse(config.getProperty("warmup", "PT20S"));
+        Duration duration = Duration.parse(config.getProperty("duration", "PT60S"));
+        for (String level : config.getProperty("concurrency", "50").split(",")) {
+            int concurrency = Integer.parseInt(level.trim());
+            List<Result> results = test.run(concurrency, warmup, duration);
+            System.out.printf("%n%s, %d clients, %s measured after %s warmup, statuses %s%n", label, concurrency,
+                    duration, warmup, new TreeMap<>(test.statuses));
+            System.out.printf("%-9s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s",
+                    "p50 ms", "p99 ms", "max ms");
+            for (Result result : results) {
+                System.out.printf("%-9s %9d %7d %9.1f %9.1f %9.1f %9.1f%n", result.endpoint(), result.requests(),
+                        result.errors(), result.rps(), result.p50(), result.p99(), result.max());
+            }
+            if (out != null) {
+                StringBuilder rows = new StringBuilder();
+                for (Result result : results) {
+                    rows.append(String.format("| %s | %d | %s | %d | %d | %.1f | %.1f | %.1f | %.1f |%n", label,
+                            concurrency, result.endpoint(), result.requests(), result.errors(), result.rps(),
+                            result.p50(), result.p99(), result.max()));
+                }
+                try {
+                    Files.writeString(out, rows, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
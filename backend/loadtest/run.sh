@@ -0,0 +1,115 @@
+#!/usr/bin/env bash
+# Runs LoadTest.java against the backend once in platform-thread mode and once in virtual-thread mode, with the
+# same jar, database and settings, and appends both to a Markdown results file.
+#
+# Needs a JDK 21 (JAVA, default "java"), Maven, and a PostgreSQL database given through SPRING_DATASOURCE_URL,
+# SPRING_DATASOURCE_USERNAME and SPRING_DATASOURCE_PASSWORD. Other settings fall back to local defaults.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAVA=${JAVA:-java}
+MVN=${MVN:-mvn}
+APP_JAVA_OPTS=${APP_JAVA_OPTS:--Xms512m -Xmx1g}
+CONFIG=${CONFIG:-loadtest/loadtest.properties}
+PORT=${SERVER_PORT:-8080}
+
+version=$("$JAVA" -XshowSettings:properties -version 2>&1 | sed -n 's/.*java.specification.version = //p')
+if [ "${version%%.*}" -lt 21 ]; then
+    echo "Java $version found; the virtual-thread mode needs Java 21 or newer (set JAVA)" >&2
+    exit 1
+fi
+
+: "${SPRING_DATASOURCE_URL:?set SPRING_DATASOURCE_URL to a PostgreSQL database}"
+export SPRING_DATASOURCE_USERNAME=${SPRING_DATASOURCE_USERNAME:-postgres}
+export SPRING_DATASOURCE_PASSWORD=${SPRING_DATASOURCE_PASSWORD:-}
+export SPRING_DATASOURCE_DRIVER_CLASS_NAME=org.postgresql.Driver
+export SPRING_JPA_SHOW_SQL=false
+export SERVER_PORT=$PORT
+export CORS_ALLOWED_ORIGINS=${CORS_ALLOWED_ORIGINS:-http://localhost:3000}
+export JWT_SECRET=${JWT_SECRET:-0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef}
+export JWT_ACCESS_TOKEN_TTL=${JWT_ACCESS_TOKEN_TTL:-3600}
+export JWT_REFRESH_TOKEN_TTL=${JWT_REFRESH_TOKEN_TTL:-86400}
+export SPRING_MAIL_HOST=${SPRING_MAIL_HOST:-localhost}
+export SPRING_MAIL_PORT=${SPRING_MAIL_PORT:-2525}
+export SPRING_MAIL_USERNAME=${SPRING_MAIL_USERNAME:-}
+export SPRING_MAIL_PASSWORD=${SPRING_MAIL_PASSWORD:-}
+export SPRING_MAIL_FROM=${SPRING_MAIL_FROM:-noreply@example.com}
+export SPRING_MAIL_PROPERTIES_MAIL_SMTP_AUTH=false
+export SPRING_MAIL_PROPERTIES_MAIL_SMTP_STARTTLS_ENABLE=false
+export FRONTEND_URL=${FRONTEND_URL:-http://localhost:3000}
+export PASSWORD_RESET_TOKEN_TTL=${PASSWORD_RESET_TOKEN_TTL:-86400}
+export THYMELEAF_CACHE_ENABLE=true
+# The load runs as one user; the write limit would otherwise turn most patches into 429s.
+export APP_RATE_LIMIT_ENABLED=false
+# Nothing listens on the mail port here, and a failing mail check keeps /actuator/health at 503.
+export MANAGEMENT_HEALTH_MAIL_ENABLED=false
+
+"$MVN" -B -q package -DskipTests
+jar=$(ls target/taskmanager-*.jar | grep -v plain | head -n 1)
+
+out=${OUT:-loadtest/results/$(date +%F)-java$version.md}
+if [ ! -f "$out" ]; then
+    {
+        echo "# Load test results, Java $version"
+        echo
+        echo "- JVM: $("$JAVA" -version 2>&1 | sed -n 2p)"
+        echo "- Host: $(nproc) CPU, $(free -g 2>/dev/null | awk '/Mem:/ {print $2 " GB"}'), $(uname -sr)"
+        echo "- App JVM options: $APP_JAVA_OPTS"
+        echo "- Settings: $(grep -v '^#' "$CONFIG" | grep . | tr '\n' ' ')"
+        echo
+        echo "| mode | clients | endpoint | requests | errors | req/s | p50 ms | p99 ms | max ms |"
+        echo "|---|---|---|---|---|---|---|---|---|"
+    } > "$out"
+fi
+
+app=
+pinned=
+stop() {
+    if [ -n "$app" ] && kill -0 "$app" 2>/dev/null; then
+        kill "$app"
+        wait "$app" || true
+    fi
+    app=
+}
+trap stop EXIT
+
+for mode in platform virtual; do
+    log=target/loadtest-$mode.log
+    SPRING_THREADS_VIRTUAL_ENABLED=$([ "$mode" = virtual ] && echo true || echo false) \
+        "$JAVA" $APP_JAVA_OPTS -jar "$jar" > "$log" 2>&1 &
+    app=$!
+
+    up=
+    for _ in $(seq 1 120); do
+        if curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; then
+            up=1
+            break
+        fi
+        if ! kill -0 "$app" 2>/dev/null; then
+            echo "Backend exited during startup, see $log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+    if [ -z "$up" ]; then
+        echo "Backend did not report healthy within 120 s, see $log" >&2
+        exit 1
+    fi
+    if [ "$mode" = virtual ] && ! grep -q "Virtual-thread mode is on" "$log"; then
+        echo "Virtual-thread mode did not start, see $log" >&2
+        exit 1
+    fi
+
+    "$JAVA" -Dloadtest.baseUrl="http://localhost:$PORT" loadtest/LoadTest.java "$CONFIG" --label "$mode" --out "$out"
+    if [ "$mode" = virtual ]; then
+        pinned=$(grep -c "Virtual thread pinned" "$log" || true)
+    fi
+    stop
+done
+
+{
+    echo
+    echo "Distinct pinning sites logged by VirtualThreadPinningMonitor in virtual mode: $pinned"
+} >> "$out"
+echo "Results appended to $out"
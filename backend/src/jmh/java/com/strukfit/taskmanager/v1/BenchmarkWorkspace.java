@@ -0,0 +1,133 @@
+package com.strukfit.taskmanager.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.strukfit.taskmanager.TaskManagerApplication;
+import com.strukfit.taskmanager.v1.issue.IssueService;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkCreateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueCreateDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+import com.strukfit.taskmanager.v1.project.ProjectService;
+import com.strukfit.taskmanager.v1.project.dto.ProjectCreateDTO;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.user.UserRepository;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceService;
+import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceCreateDTO;
+
+/**
+ * Boots the application against the database named by SPRING_DATASOURCE_* and seeds a throwaway user and
+ * workspace for benchmarks that need the real persistence stack. {@link #close()} deletes both and stops
+ * the context.
+ */
+public class BenchmarkWorkspace implements AutoCloseable {
+    private static final int BULK_SIZE = 1000;
+
+    private final ConfigurableApplicationContext context;
+    private final User user;
+    private final Long workspaceId;
+    private final List<Long> projectIds = new ArrayList<>();
+
+    public BenchmarkWorkspace(String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef",
+                "jwt.access-token-ttl=3600",
+                "jwt.refresh-token-ttl=86400",
+                "app.password-reset-token-ttl=86400",
+                "app.frontend.url=http://localhost:3000",
+                "cors.allowed-origins=http://localhost:3000",
+                "thymeleaf.cache=true",
+                "spring.mail.host=localhost",
+                "spring.mail.port=2525",
+                "spring.mail.username=",
+                "spring.mail.password=",
+                "spring.mail.from=noreply@example.com",
+                "spring.mail.properties.mail.smtp.auth=false",
+                "spring.mail.properties.mail.smtp.starttls.enable=false",
+                "management.health.mail.enabled=false"));
+        defaults.addAll(List.of(properties));
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(defaults.toArray(new String[0]))
+                .run();
+
+        String name = "bench-" + UUID.randomUUID().toString().substring(0, 8);
+        User created = new User();
+        created.setUsername(name);
+        created.setEmail(name + "@example.com");
+        created.setPasswordHash("unused");
+        user = getBean(UserRepository.class).save(created);
+
+        WorkspaceCreateDTO workspace = new WorkspaceCreateDTO();
+        workspace.setName(name);
+        workspaceId = getBean(WorkspaceService.class).create(workspace, user).getId();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public List<Long> getProjectIds() {
+        return projectIds;
+    }
+
+    public void addProjects(int count) {
+        ProjectService projectService = getBean(ProjectService.class);
+        for (int i = 0; i < count; i++) {
+            ProjectCreateDTO project = new ProjectCreateDTO();
+            project.setName("Project " + projectIds.size());
+            projectIds.add(projectService.create(workspaceId, project, user).getId());
+        }
+    }
+
+    public IssueCreateDTO issue(int i) {
+        IssueCreateDTO issue = new IssueCreateDTO();
+        issue.setTitle("Issue " + i);
+        issue.setDescription("Description of issue " + i);
+        issue.setStatus(Status.values()[i % Status.values().length]);
+        issue.setPriority(Priority.values()[i % Priority.values().length]);
+        if (!projectIds.isEmpty() && i % 4 != 0) {
+            issue.setProjectId(projectIds.get(i % projectIds.size()));
+        }
+        return issue;
+    }
+
+    public void addIssues(int count) {
+        IssueService issueService = getBean(IssueService.class);
+        for (int from = 0; from < count; from += BULK_SIZE) {
+            List<IssueCreateDTO> issues = new ArrayList<>();
+            for (int i = from; i < Math.min(from + BULK_SIZE, count); i++) {
+                issues.add(issue(i));
+            }
+            IssueBulkCreateDTO bulk = new IssueBulkCreateDTO();
+            bulk.setIssues(issues);
+            issueService.createAll(workspaceId, bulk, user);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            getBean(WorkspaceService.class).delete(workspaceId, user);
+            getBean(UserRepository.class).delete(user);
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.strukfit.taskmanager.v1.auth.jwt;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.strukfit.taskmanager.v1.user.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Cost of authenticating one request. legacy rebuilds the key and parses the token twice, as JwtService did
+ * before JwtVerifier. verifyMiss cycles through more tokens than the cache holds, verifyHit reuses one token,
+ * and filter runs the whole JwtFilter on a cached token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifierBenchmark {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final int TOKENS = 4096;
+
+    private JwtVerifier verifier;
+    private JwtVerifier smallCacheVerifier;
+    private JwtFilter filter;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = Jwts.builder()
+                    .subject(Integer.toString(i + 1))
+                    .claim("username", "user" + i)
+                    .claim("email", "user" + i + "@example.com")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                    .signWith(key, Jwts.SIG.HS256)
+                    .compact();
+        }
+
+        verifier = new JwtVerifier(new SimpleMeterRegistry(), SECRET, 10000);
+        smallCacheVerifier = new JwtVerifier(new SimpleMeterRegistry(), SECRET, 16);
+        filter = new JwtFilter();
+        ReflectionTestUtils.setField(filter, "jwtVerifier", verifier);
+    }
+
+    @Benchmark
+    public UserPrincipal legacy() {
+        String token = tokens[0];
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseSignedClaims(token).getPayload();
+        return new UserPrincipal(Long.parseLong(claims.getSubject()), claims.get("username", String.class),
+                claims.get("email", String.class));
+    }
+
+    @Benchmark
+    public UserPrincipal verifyMiss() {
+        next = (next + 1) % TOKENS;
+        return smallCacheVerifier.verify(tokens[next]);
+    }
+
+    @Benchmark
+    public UserPrincipal verifyHit() {
+        return verifier.verify(tokens[0]);
+    }
+
+    @Benchmark
+    public int filter() throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/workspaces");
+        request.addHeader("Authorization", "Bearer " + tokens[0]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,75 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strukfit.taskmanager.v1.BenchmarkWorkspace;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkCreateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueCreateDTO;
+
+/**
+ * Creating a batch of issues one create() call at a time against a single createAll() call. Each
+ * invocation writes a fresh batch into the same workspace. Needs SPRING_DATASOURCE_*.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IssueBulkCreateBenchmark {
+    @Param({ "1000" })
+    private int issues;
+
+    private BenchmarkWorkspace workspace;
+    private IssueService issueService;
+    private List<IssueCreateDTO> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workspace = new BenchmarkWorkspace();
+        workspace.addProjects(5);
+        issueService = workspace.getBean(IssueService.class);
+        batch = new ArrayList<>();
+        for (int i = 0; i < issues; i++) {
+            batch.add(workspace.issue(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workspace.close();
+    }
+
+    @Benchmark
+    public int singleCreates() {
+        int created = 0;
+        for (IssueCreateDTO issue : batch) {
+            issueService.create(workspace.getWorkspaceId(), issue, workspace.getUser());
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public int bulkCreate() {
+        IssueBulkCreateDTO bulk = new IssueBulkCreateDTO();
+        bulk.setIssues(batch);
+        return issueService.createAll(workspace.getWorkspaceId(), bulk, workspace.getUser()).size();
+    }
+}
@@ -0,0 +1,98 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.strukfit.taskmanager.v1.BenchmarkWorkspace;
+import com.strukfit.taskmanager.v1.issue.dto.IssueDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueQueryDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+/**
+ * One board column page read two ways: the id seek the board uses followed by one entity load with the project
+ * fetched, and the path it replaced, findBy(specification) followed by MapStruct with the lazy project loaded per
+ * issue. Run with -prof gc for allocations per page. Needs SPRING_DATASOURCE_*.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueGroupPageBenchmark {
+    @Param({ "50" })
+    private int limit;
+
+    private BenchmarkWorkspace workspace;
+    private IssueRepository issueRepository;
+    private IssueMapper issueMapper;
+    private TransactionTemplate transactionTemplate;
+    private IssueQueryDTO query;
+    private Specification<Issue> specification;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workspace = new BenchmarkWorkspace();
+        workspace.addProjects(20);
+        workspace.addIssues(10000);
+        issueRepository = workspace.getBean(IssueRepository.class);
+        issueMapper = workspace.getBean(IssueMapper.class);
+        transactionTemplate = new TransactionTemplate(workspace.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        query = new IssueQueryDTO();
+        query.setLimit(limit);
+
+        Long workspaceId = workspace.getWorkspaceId();
+        specification = (root, criteria, cb) -> {
+            criteria.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+            return cb.and(cb.equal(root.get("workspace").get("id"), workspaceId),
+                    cb.equal(root.get("status"), Status.TO_DO));
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workspace.close();
+    }
+
+    @Benchmark
+    public List<IssueDTO> pageIds() {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = issueRepository.findGroupPageIds(workspace.getWorkspaceId(), query,
+                    Status.TO_DO.name(), null, limit + 1);
+            Map<Long, Issue> issues = issueRepository.findWithProjectByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Issue::getId, Function.identity()));
+            return ids.stream().map(issues::get).map(issueMapper::toDTO).toList();
+        });
+    }
+
+    @Benchmark
+    public List<IssueDTO> entities() {
+        return transactionTemplate.execute(status -> issueRepository
+                .findBy(specification, q -> q.limit(limit + 1).all())
+                .stream()
+                .map(issueMapper::toDTO)
+                .toList());
+    }
+}
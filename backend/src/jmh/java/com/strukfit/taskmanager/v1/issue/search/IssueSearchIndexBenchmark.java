@@ -0,0 +1,101 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.strukfit.taskmanager.v1.issue.IssueRepository;
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+
+/**
+ * Searches a hot workspace while another workspace is evicted and rebuilt from a repository with simulated
+ * query latency. Workspaces 1 and 17 land in the same bin of a default-sized ConcurrentHashMap, so a build
+ * that holds the bin lock shows up as reader latency.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueSearchIndexBenchmark {
+    private static final Long HOT_WORKSPACE = 1L;
+    private static final Long REBUILT_WORKSPACE = 17L;
+
+    @Param({ "10000" })
+    private int issues;
+
+    @Param({ "5" })
+    private int loadMillis;
+
+    private IssueSearchIndex searchIndex;
+    private IssueSearchDTO query;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<IndexedIssue> corpus = WorkspaceIndexBenchmark.corpus(issues, 42);
+        IssueRepository repository = (IssueRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IssueRepository.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("findIndexedByWorkspaceId")) {
+                        Thread.sleep(loadMillis);
+                        return corpus;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        searchIndex = new IssueSearchIndex();
+        ReflectionTestUtils.setField(searchIndex, "issueRepository", repository);
+
+        query = new IssueSearchDTO();
+        query.setQ("login crash");
+        searchIndex.search(HOT_WORKSPACE, query);
+        random = new Random(7);
+    }
+
+    @Benchmark
+    @Group("rebuild")
+    @GroupThreads(3)
+    public Page<Long> searchHot() {
+        return searchIndex.search(HOT_WORKSPACE, query);
+    }
+
+    @Benchmark
+    @Group("rebuild")
+    @GroupThreads(1)
+    public Page<Long> evictAndRebuild() {
+        searchIndex.evict(REBUILT_WORKSPACE);
+        return searchIndex.search(REBUILT_WORKSPACE, query);
+    }
+
+    @Benchmark
+    @Group("write")
+    @GroupThreads(3)
+    public Page<Long> searchWhileWriting() {
+        return searchIndex.search(HOT_WORKSPACE, query);
+    }
+
+    @Benchmark
+    @Group("write")
+    @GroupThreads(1)
+    public void remove() {
+        searchIndex.remove(HOT_WORKSPACE, (long) 1 + random.nextInt(issues));
+    }
+}
@@ -0,0 +1,108 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkspaceIndexBenchmark {
+    private static final String[] WORDS = { "login", "logout", "crash", "board", "sync", "import", "export",
+            "search", "filter", "project", "workspace", "token", "email", "password", "mobile", "desktop",
+            "timeout", "slow", "broken", "layout" };
+
+    @Param({ "10000", "100000" })
+    private int issues;
+
+    private List<IndexedIssue> corpus;
+    private WorkspaceIndex index;
+    private IssueSearchDTO filter;
+    private Random random;
+    private long nextId;
+    private long nextVersion;
+
+    static List<IndexedIssue> corpus(int size, long seed) {
+        Random random = new Random(seed);
+        List<IndexedIssue> corpus = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            corpus.add(issue(random, i + 1, 0));
+        }
+        return corpus;
+    }
+
+    static IndexedIssue issue(Random random, long id, long version) {
+        StringBuilder title = new StringBuilder();
+        for (int w = 0; w < 4; w++) {
+            title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        StringBuilder description = new StringBuilder();
+        for (int w = 0; w < 20; w++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(100)).append(' ');
+        }
+        Long projectId = random.nextInt(4) == 0 ? null : (long) random.nextInt(20);
+        return new IndexedIssue(id, title.toString(), description.toString(),
+                Status.values()[random.nextInt(Status.values().length)],
+                Priority.values()[random.nextInt(Priority.values().length)], projectId, version);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        corpus = corpus(issues, 42);
+        index = new WorkspaceIndex();
+        index.addAll(corpus);
+        filter = new IssueSearchDTO();
+        filter.setStatuses(List.of(Status.TO_DO, Status.IN_PROGRESS));
+        random = new Random(7);
+        nextId = issues + 1;
+        nextVersion = 1;
+    }
+
+    @Benchmark
+    public WorkspaceIndex build() {
+        WorkspaceIndex built = new WorkspaceIndex();
+        built.addAll(corpus);
+        return built;
+    }
+
+    @Benchmark
+    public WorkspaceIndex.Result searchTwoTerms() {
+        return index.search("login crash", new IssueSearchDTO(), 0, 20);
+    }
+
+    @Benchmark
+    public WorkspaceIndex.Result searchPrefixFiltered() {
+        return index.search("sync tim", filter, 0, 20);
+    }
+
+    @Benchmark
+    public void upsert() {
+        index.upsert(issue(random, 1 + random.nextInt(issues), nextVersion++));
+    }
+
+    @Benchmark
+    public void append() {
+        index.upsert(issue(random, nextId++, 0));
+    }
+}
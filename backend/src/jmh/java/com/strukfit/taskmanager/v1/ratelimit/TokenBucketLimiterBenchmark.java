@@ -0,0 +1,93 @@
+package com.strukfit.taskmanager.v1.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strukfit.taskmanager.v1.ratelimit.enums.RateLimitKey;
+
+/**
+ * Cost of one rate-limit decision. hotClient has every thread on one bucket, the worst case for the CAS
+ * loop. manyClients spreads requests over a large key space. evictIdle sweeps a full map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBucketLimiterBenchmark {
+    @Param({ "100000" })
+    private int clients;
+
+    private TokenBucketLimiter limiter;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new TokenBucketLimiter(new RateLimitProperties.Rule("writes", "/v1/**",
+                List.of("POST", "PUT", "PATCH", "DELETE"), RateLimitKey.USER, 300, Duration.ofMinutes(1)));
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = Integer.toString(i);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long hotClient() {
+        return limiter.tryAcquire("hot", System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long manyClients() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(clients)], System.nanoTime());
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return limiter.matches("POST", "/v1/workspaces/42/issues");
+    }
+
+    @State(Scope.Thread)
+    public static class FullMap {
+        private TokenBucketLimiter limiter;
+        private String[] keys;
+
+        @Setup(Level.Invocation)
+        public void fill(TokenBucketLimiterBenchmark benchmark) {
+            limiter = new TokenBucketLimiter(new RateLimitProperties.Rule("login", "/v1/auth/login",
+                    List.of("POST"), RateLimitKey.IP, 10, Duration.ofMinutes(1)));
+            keys = benchmark.keys;
+            long now = System.nanoTime();
+            for (String key : keys) {
+                limiter.tryAcquire(key, now);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 20)
+    public int evictIdle(FullMap map) {
+        map.limiter.evictIdle(System.nanoTime() + Duration.ofMinutes(1).toNanos());
+        return map.limiter.size();
+    }
+}
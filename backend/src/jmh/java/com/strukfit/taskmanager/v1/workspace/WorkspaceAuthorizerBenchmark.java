@@ -0,0 +1,74 @@
+package com.strukfit.taskmanager.v1.workspace;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strukfit.taskmanager.v1.BenchmarkWorkspace;
+import com.strukfit.taskmanager.v1.issue.IssueService;
+import com.strukfit.taskmanager.v1.issue.dto.IssuePageDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueQueryDTO;
+
+/**
+ * Board read with the membership check served from the authorizer cache and, with cached=false, with the
+ * cache emptied before every call so each read pays for the existence query. Needs SPRING_DATASOURCE_*.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkspaceAuthorizerBenchmark {
+    @Param({ "true", "false" })
+    private boolean cached;
+
+    private BenchmarkWorkspace workspace;
+    private WorkspaceAuthorizer workspaceAuthorizer;
+    private IssueService issueService;
+    private IssueQueryDTO query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workspace = new BenchmarkWorkspace();
+        workspace.addProjects(5);
+        workspace.addIssues(500);
+        workspaceAuthorizer = workspace.getBean(WorkspaceAuthorizer.class);
+        issueService = workspace.getBean(IssueService.class);
+        query = new IssueQueryDTO();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workspace.close();
+    }
+
+    @Benchmark
+    public Map<String, IssuePageDTO> board() {
+        if (!cached) {
+            workspaceAuthorizer.evict(workspace.getWorkspaceId());
+        }
+        return issueService.getByWorkspace(workspace.getWorkspaceId(), workspace.getUser(), query);
+    }
+
+    @Benchmark
+    public void checkAccess() {
+        if (!cached) {
+            workspaceAuthorizer.evict(workspace.getWorkspaceId());
+        }
+        workspaceAuthorizer.checkAccess(workspace.getWorkspaceId(), workspace.getUser());
+    }
+}
@@ -3,10 +3,12 @@ package com.strukfit.taskmanager;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(exclude = { ThymeleafAutoConfiguration.class })
 @EnableScheduling
+@EnableAsync
 public class TaskManagerApplication {
 
 	public static void main(String[] args) {
@@ -2,7 +2,6 @@ package com.strukfit.taskmanager.v1.auth;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,7 +10,6 @@ import org.springframework.web.bind.annotation.RestController;
 import com.strukfit.taskmanager.common.dto.ApiResponse;
 import com.strukfit.taskmanager.v1.auth.dto.AuthResponse;
 import com.strukfit.taskmanager.v1.auth.dto.LoginDTO;
-import com.strukfit.taskmanager.v1.auth.email.EmailService;
 import com.strukfit.taskmanager.v1.auth.jwt.JwtService;
 import com.strukfit.taskmanager.v1.auth.token.TokenService;
 import com.strukfit.taskmanager.v1.auth.token.Token;
@@ -38,13 +36,11 @@ public class AuthController {
     private TokenService tokenService;
 
     @Autowired
-    private EmailService emailService;
+    private PasswordResetService passwordResetService;
 
     @Autowired
     private UserMapper userMapper;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<AuthResponse>> signup(@Valid @RequestBody UserRegisterDTO dto) {
         User user = userService.register(dto);
@@ -56,8 +52,8 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginDTO dto) {
-        User user = userService.findByUsername(dto.getUsername());
-        if (user != null && passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+        User user = userService.authenticate(dto.getUsername(), dto.getPassword());
+        if (user != null) {
             String accessToken = jwtService.generateAccessToken(user);
             Token refreshToken = tokenService.createRefreshToken(user);
             AuthResponse authResponse = new AuthResponse(
@@ -71,7 +67,7 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<AuthResponse>> refreshToken(@Valid @RequestBody RefreshTokenDTO dto) {
-        Token refreshToken = tokenService.verifyRefreshToken(dto.getRefreshToken());
+        Token refreshToken = tokenService.rotateRefreshToken(dto.getRefreshToken());
         User user = refreshToken.getUser();
         String newAccesToken = jwtService.generateAccessToken(user);
         AuthResponse authResponse = new AuthResponse(
@@ -83,9 +79,7 @@ public class AuthController {
 
     @PostMapping("/password/reset/request")
     public ResponseEntity<ApiResponse<Void>> requestPasswordReset(@Valid @RequestBody PasswordResetRequestDTO dto) {
-        User user = userService.findByEmail(dto.getEmail());
-        Token resetToken = tokenService.createPasswordResetToken(user);
-        emailService.sendPasswordResetEmail(dto.getEmail(), resetToken.getToken());
+        passwordResetService.requestReset(dto.getEmail());
         return ResponseEntity.ok(ApiResponse.success(null, "Password reset link sent to email"));
     }
 
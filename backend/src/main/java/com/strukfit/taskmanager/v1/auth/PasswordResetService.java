@@ -0,0 +1,30 @@
+package com.strukfit.taskmanager.v1.auth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.strukfit.taskmanager.v1.auth.email.EmailService;
+import com.strukfit.taskmanager.v1.auth.token.Token;
+import com.strukfit.taskmanager.v1.auth.token.TokenService;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.user.UserService;
+
+@Service
+public class PasswordResetService {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Transactional
+    public void requestReset(String email) {
+        User user = userService.findByEmail(email);
+        Token resetToken = tokenService.createPasswordResetToken(user);
+        emailService.enqueuePasswordResetEmail(email, resetToken.getToken());
+    }
+}
@@ -0,0 +1,172 @@
+package com.strukfit.taskmanager.v1.auth.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.strukfit.taskmanager.v1.auth.email.enums.EmailOutboxStatus;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+@Component
+public class EmailOutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    private final int concurrency;
+    private final ExecutorService senders;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.claim-timeout:PT5M}")
+    private Duration claimTimeout;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff:PT30S}")
+    private Duration backoff;
+
+    @Value("${app.mail.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    @Value("${app.mail.outbox.failed-retention:P7D}")
+    private Duration failedRetention;
+
+    public EmailOutboxDispatcher(@Value("${app.mail.outbox.concurrency:2}") int concurrency) {
+        this.concurrency = concurrency;
+        this.senders = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:PT2S}")
+    public void dispatch() {
+        List<Callable<Integer>> workers = Collections.nCopies(concurrency, this::drain);
+        try {
+            senders.invokeAll(workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int drain() {
+        int sent = 0;
+        List<EmailOutbox> batch;
+        do {
+            batch = claim();
+            if (!batch.isEmpty()) {
+                sent += send(batch);
+            }
+        } while (batch.size() == batchSize);
+        return sent;
+    }
+
+    private List<EmailOutbox> claim() {
+        return transactionTemplate.execute(transaction -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = emailOutboxRepository.lockDue(now, batchSize);
+            due.forEach(email -> email.setNextAttemptAt(now.plus(claimTimeout)));
+            return due;
+        });
+    }
+
+    private int send(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        List<EmailOutbox> sent = new ArrayList<>();
+        Map<EmailOutbox, Exception> failed = new LinkedHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(emailService.toMimeMessage(email), email);
+            } catch (MessagingException e) {
+                failed.put(email, e);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+                sent.addAll(messages.values());
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                messages.forEach((message, email) -> {
+                    if (failedMessages.isEmpty() || failedMessages.containsKey(message)) {
+                        failed.put(email, failedMessages.getOrDefault(message, e));
+                    } else {
+                        sent.add(email);
+                    }
+                });
+            } catch (MailException e) {
+                messages.values().forEach(email -> failed.put(email, e));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(transaction -> {
+            emailOutboxRepository.deleteAllByIdInBatch(sent.stream().map(EmailOutbox::getId).toList());
+            failed.forEach(this::markFailed);
+        });
+        return sent.size();
+    }
+
+    private void markFailed(EmailOutbox email, Exception error) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        String message = String.valueOf(error.getMessage());
+        email.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+        if (attempts >= maxAttempts) {
+            // The body holds the plaintext reset link, so it is not kept once the email will never be sent.
+            email.setStatus(EmailOutboxStatus.FAILED);
+            email.setBody("");
+            logger.warn("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(),
+                    attempts, message);
+        } else {
+            long delay = backoff.toMillis() << Math.min(attempts - 1, 20);
+            email.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(Math.min(delay, maxBackoff.toMillis()))));
+        }
+        emailOutboxRepository.save(email);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-interval:PT1H}")
+    public void purgeFailed() {
+        int purged = transactionTemplate.execute(transaction -> emailOutboxRepository
+                .deleteByStatusCreatedBefore(EmailOutboxStatus.FAILED, LocalDateTime.now().minus(failedRetention)));
+        if (purged > 0) {
+            logger.info("Purged {} failed outbox emails", purged);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+}
@@ -0,0 +1,22 @@
+package com.strukfit.taskmanager.v1.auth.email;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.strukfit.taskmanager.v1.auth.email.enums.EmailOutboxStatus;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    @Query(value = "select * from email_outbox where status = 'PENDING' and next_attempt_at <= :now"
+            + " order by next_attempt_at limit :limit for update skip locked", nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from EmailOutbox e where e.status = :status and e.createdAt < :before")
+    int deleteByStatusCreatedBefore(@Param("status") EmailOutboxStatus status,
+            @Param("before") LocalDateTime before);
+}
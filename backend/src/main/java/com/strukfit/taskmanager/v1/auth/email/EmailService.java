@@ -20,31 +20,40 @@ public class EmailService {
     @Autowired
     private TemplateEngine templateEngine;
 
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
     @Value("${spring.mail.from}")
     private String fromEmail;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
-    public void sendPasswordResetEmail(String toEmail, String resetToken) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
+    private EmailOutbox enqueue(String toEmail, String subject, String htmlContent) {
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(toEmail);
+        email.setSubject(subject);
+        email.setBody(htmlContent);
+        return emailOutboxRepository.save(email);
+    }
 
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("Password Reset Request");
+    public EmailOutbox enqueuePasswordResetEmail(String toEmail, String resetToken) {
+        String resetUrl = frontendUrl + "/reset-password?token=" + resetToken;
+        Context context = new Context();
+        context.setVariable("resetUrl", resetUrl);
 
-            String resetUrl = frontendUrl + "/reset-password?token=" + resetToken;
-            Context context = new Context();
-            context.setVariable("resetUrl", resetUrl);
+        String htmlContent = templateEngine.process("email/password-reset", context);
+        return enqueue(toEmail, "Password Reset Request", htmlContent);
+    }
 
-            String htmlContent = templateEngine.process("email/password-reset", context);
+    public MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
 
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new RuntimeException("Failed to send password reset email", e);
-        }
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+        return message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,6 @@
+package com.strukfit.taskmanager.v1.auth.email.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    FAILED
+}
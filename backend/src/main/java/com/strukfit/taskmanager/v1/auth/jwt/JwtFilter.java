@@ -1,18 +1,17 @@
 package com.strukfit.taskmanager.v1.auth.jwt;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.lang.NonNull;
 
-import com.strukfit.taskmanager.v1.user.User;
-import com.strukfit.taskmanager.v1.user.UserService;
+import com.strukfit.taskmanager.v1.user.UserPrincipal;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,10 +21,7 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
     @Autowired
-    private JwtService jwtService;
-
-    @Autowired
-    private UserService userService;
+    private JwtVerifier jwtVerifier;
 
     @Override
     protected void doFilterInternal(
@@ -36,20 +32,16 @@ public class JwtFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (!jwtService.validateAccessToken(token)) {
+            UserPrincipal principal = jwtVerifier.verify(token);
+            if (principal == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("Invalid or expired JWT token");
                 return;
             }
 
-            String userIdStr = jwtService.getUsernameFromToken(token);
-            Long userId = Long.parseLong(userIdStr);
-
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userService.findById(userId);
-                UserDetails userDetails = user;
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
-                        null, userDetails.getAuthorities());
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(principal,
+                        null, Collections.emptyList());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
@@ -2,6 +2,8 @@ package com.strukfit.taskmanager.v1.auth.jwt;
 
 import java.util.Date;
 
+import javax.crypto.SecretKey;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -12,42 +14,24 @@ import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
-
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final SecretKey signingKey;
 
     @Value("${jwt.access-token-ttl}")
     private long accessTokenTtl;
 
+    public JwtService(@Value("${jwt.secret}") String secretKey) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+    }
+
     public String generateAccessToken(User user) {
 
         return Jwts.builder()
                 .subject(user.getId().toString())
+                .claim("username", user.getUsername())
+                .claim("email", user.getEmail())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenTtl * 1000))
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
-
-    public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
-    public boolean validateAccessToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                    .build()
-                    .parseSignedClaims(token);
-
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
 }
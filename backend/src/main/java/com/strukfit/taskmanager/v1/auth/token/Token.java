@@ -16,18 +16,28 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "tokens", indexes = { @Index(name = "idx_token_type", columnList = "token,type") })
+@Table(name = "tokens", indexes = {
+        @Index(name = "idx_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_tokens_user_type", columnList = "user_id,type,expiry_date"),
+        @Index(name = "idx_tokens_expiry_date", columnList = "expiry_date") })
 public class Token {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tokens_seq")
+    @SequenceGenerator(name = "tokens_seq", sequenceName = "tokens_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    // NOT NULL is added by schema.sql once existing rows are backfilled.
+    @Column(name = "token_hash", length = 32)
+    private byte[] tokenHash;
+
+    @Transient
     private String token;
 
     @Enumerated(EnumType.STRING)
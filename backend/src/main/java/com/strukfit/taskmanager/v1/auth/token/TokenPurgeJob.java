@@ -0,0 +1,78 @@
+package com.strukfit.taskmanager.v1.auth.token;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.strukfit.taskmanager.v1.lease.JobLeaseService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class TokenPurgeJob {
+    private static final Logger logger = LoggerFactory.getLogger(TokenPurgeJob.class);
+
+    private static final String LEASE_NAME = "token-purge";
+
+    private final TokenRepository tokenRepository;
+    private final JobLeaseService jobLeaseService;
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    @Value("${app.auth.token-purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.auth.token-purge.pause:PT0.2S}")
+    private Duration pause;
+
+    @Value("${app.auth.token-purge.lease:PT10M}")
+    private Duration lease;
+
+    public TokenPurgeJob(TokenRepository tokenRepository, JobLeaseService jobLeaseService,
+            MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.purgedCounter = Counter.builder("tokens.purged")
+                .description("Expired tokens deleted by the purge job")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("tokens.purge.duration")
+                .description("Duration of expired token purge runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.auth.token-purge.cron:0 0 0 * * ?}")
+    public void purgeExpiredTokens() {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, lease)) {
+            return;
+        }
+        long started = System.nanoTime();
+        long purged = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int deleted;
+            do {
+                deleted = tokenRepository.deleteExpiredBatch(now, batchSize);
+                purged += deleted;
+                purgedCounter.increment(deleted);
+                if (deleted < batchSize || !jobLeaseService.tryAcquire(LEASE_NAME, lease)) {
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            } while (true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            purgeTimer.record(Duration.ofNanos(elapsed));
+            jobLeaseService.release(LEASE_NAME);
+            logger.info("Purged {} expired tokens in {} ms", purged, Duration.ofNanos(elapsed).toMillis());
+        }
+    }
+}
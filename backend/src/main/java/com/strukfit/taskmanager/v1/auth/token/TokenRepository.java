@@ -4,11 +4,30 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.strukfit.taskmanager.v1.auth.token.enums.TokenType;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
-    Optional<Token> findByTokenAndType(String token, TokenType type);
+    Optional<Token> findByTokenHashAndType(byte[] tokenHash, TokenType type);
 
-    void deleteByExpiryDateBefore(LocalDateTime expiryDate);
+    @Modifying
+    @Query("delete from Token t where t.id = :id")
+    int deleteTokenById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "delete from tokens where id in (select t.id from tokens t"
+            + " where t.user_id = :userId and t.type = :type"
+            + " order by t.expiry_date desc, t.id desc offset :keep)", nativeQuery = true)
+    int deleteOldestByUserIdAndType(@Param("userId") Long userId, @Param("type") String type,
+            @Param("keep") int keep);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from tokens where id in (select t.id from tokens t"
+            + " where t.expiry_date < :now order by t.expiry_date limit :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
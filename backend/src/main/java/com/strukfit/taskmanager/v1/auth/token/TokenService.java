@@ -1,12 +1,16 @@
 package com.strukfit.taskmanager.v1.auth.token;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Base64;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.strukfit.taskmanager.v1.auth.token.enums.TokenType;
 import com.strukfit.taskmanager.v1.user.User;
@@ -22,17 +26,36 @@ public class TokenService {
     @Value("${app.password-reset-token-ttl}")
     private long passwordResetTokenTtl;
 
+    @Value("${app.auth.max-refresh-tokens-per-user:10}")
+    private int maxRefreshTokensPerUser;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private Token createToken(User user, TokenType type, LocalDateTime expiryDate) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
         Token token = new Token();
-        token.setToken(UUID.randomUUID().toString());
+        token.setTokenHash(hash(value));
         token.setType(type);
         token.setUser(user);
         token.setExpiryDate(expiryDate);
-        return tokenRepository.save(token);
+        Token saved = tokenRepository.save(token);
+        saved.setToken(value);
+        return saved;
     }
 
     private Token verifyToken(String token, TokenType type) {
-        Token foundToken = tokenRepository.findByTokenAndType(token, type)
+        Token foundToken = tokenRepository.findByTokenHashAndType(hash(token), type)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid " + type.name().toLowerCase() + " token"));
 
         if (foundToken.getExpiryDate().isBefore(LocalDateTime.now())) {
@@ -43,7 +66,10 @@ public class TokenService {
         return foundToken;
     }
 
+    @Transactional
     public Token createRefreshToken(User user) {
+        tokenRepository.deleteOldestByUserIdAndType(user.getId(), TokenType.REFRESH.name(),
+                Math.max(maxRefreshTokensPerUser - 1, 0));
         return createToken(user, TokenType.REFRESH, LocalDateTime.now().plusSeconds(refreshTokenTtl));
     }
 
@@ -55,6 +81,15 @@ public class TokenService {
         return verifyToken(token, TokenType.REFRESH);
     }
 
+    @Transactional
+    public Token rotateRefreshToken(String token) {
+        Token current = verifyRefreshToken(token);
+        if (tokenRepository.deleteTokenById(current.getId()) == 0) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        return createToken(current.getUser(), TokenType.REFRESH, LocalDateTime.now().plusSeconds(refreshTokenTtl));
+    }
+
     public Token verifyPasswordResetToken(String token) {
         return verifyToken(token, TokenType.PASSWORD_RESET);
     }
@@ -62,9 +97,4 @@ public class TokenService {
     public void deleteToken(Token token) {
         tokenRepository.delete(token);
     }
-
-    @Scheduled(cron = "0 0 0 * * ?") // Daily at midnight
-    public void cleanUpExpiredTokens() {
-        tokenRepository.deleteByExpiryDateBefore(LocalDateTime.now());
-    }
 }
@@ -0,0 +1,13 @@
+package com.strukfit.taskmanager.v1.event;
+
+public record WorkspaceEvent(Long workspaceId, String type, String action, Long id, Long version) {
+    public static final String ISSUE = "issue";
+    public static final String PROJECT = "project";
+    public static final String WORKSPACE = "workspace";
+    public static final String IMPORT = "import";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String COMPLETED = "completed";
+}
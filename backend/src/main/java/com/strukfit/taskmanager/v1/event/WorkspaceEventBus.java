@@ -0,0 +1,192 @@
+package com.strukfit.taskmanager.v1.event;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strukfit.taskmanager.v1.event.dto.WorkspaceEventDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class WorkspaceEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceEventBus.class);
+    private static final Duration IDLE_CHANNEL_TTL = Duration.ofMinutes(10);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, WorkspaceEventChannel> channels = new ConcurrentHashMap<>();
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+    private final Set<DataWithMediaType> reset = SseEmitter.event().name("reset").data("{}").build();
+    private final Executor dispatcher;
+    private final Counter evictions;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.events.history-size:512}")
+    private int historySize;
+
+    @Value("${app.events.timeout:PT30M}")
+    private Duration timeout;
+
+    public WorkspaceEventBus(MeterRegistry meterRegistry, Environment environment,
+            @Value("${app.events.dispatch-threads:16}") int dispatchThreads,
+            @Value("${app.events.dispatch-queue-capacity:10000}") int dispatchQueueCapacity) {
+        this.dispatcher = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("workspace-events-")
+                : dispatcher(dispatchThreads, dispatchQueueCapacity);
+        this.evictions = meterRegistry.counter("workspace.events.evictions");
+        meterRegistry.gauge("workspace.events.subscribers", channels,
+                map -> map.values().stream().mapToInt(channel -> channel.getSubscribers().size()).sum());
+    }
+
+    // Each subscriber has at most one drain task queued, so the queue only overflows with more than
+    // dispatchQueueCapacity subscribers waiting at once. Rejected subscribers are closed and reconnect.
+    private static ThreadPoolExecutor dispatcher(int threads, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("workspace-events-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    Long parseSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    public SseEmitter subscribe(Long workspaceId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        WorkspaceEventSubscriber subscriber = new WorkspaceEventSubscriber(emitter, bufferSize, dispatcher);
+        Long sequence = parseSequence(lastEventId);
+
+        channels.compute(workspaceId, (id, channel) -> {
+            if (channel == null) {
+                channel = new WorkspaceEventChannel(historySize);
+            }
+            subscriber.offer(SseEmitter.event().comment("connected").reconnectTime(3000).build());
+            if (sequence != null) {
+                List<Set<DataWithMediaType>> missed = channel.since(sequence);
+                if (missed == null) {
+                    subscriber.offer(reset);
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            channel.getSubscribers().add(subscriber);
+            return channel;
+        });
+
+        Runnable unsubscribe = () -> {
+            subscriber.detach();
+            WorkspaceEventChannel channel = channels.get(workspaceId);
+            if (channel != null) {
+                channel.getSubscribers().remove(subscriber);
+            }
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(WorkspaceEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(
+                    new WorkspaceEventDTO(event.type(), event.action(), event.id(), event.version()));
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to serialize workspace event {}", event, e);
+            return;
+        }
+
+        channels.compute(event.workspaceId(), (id, channel) -> {
+            if (channel == null) {
+                channel = new WorkspaceEventChannel(historySize);
+            }
+            Set<DataWithMediaType> message = SseEmitter.event()
+                    .id(eventId(channel.nextSequence()))
+                    .data(data)
+                    .build();
+            channel.append(message);
+            for (WorkspaceEventSubscriber subscriber : channel.getSubscribers()) {
+                deliver(channel, subscriber, message);
+            }
+            return channel;
+        });
+    }
+
+    private void deliver(WorkspaceEventChannel channel, WorkspaceEventSubscriber subscriber,
+            Set<DataWithMediaType> message) {
+        if (!subscriber.offer(message)) {
+            if (subscriber.isEvicted()) {
+                evictions.increment();
+            }
+            channel.getSubscribers().remove(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        long idleSince = System.currentTimeMillis() - IDLE_CHANNEL_TTL.toMillis();
+        for (Long workspaceId : channels.keySet()) {
+            channels.computeIfPresent(workspaceId, (id, channel) -> {
+                for (WorkspaceEventSubscriber subscriber : channel.getSubscribers()) {
+                    deliver(channel, subscriber, heartbeat);
+                }
+                return channel.getSubscribers().isEmpty() && channel.getLastEventAt() < idleSince ? null : channel;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.getSubscribers().forEach(WorkspaceEventSubscriber::close));
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.strukfit.taskmanager.v1.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+class WorkspaceEventChannel {
+    private final List<Set<DataWithMediaType>> history;
+    private final List<WorkspaceEventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastSequence;
+    private long lastEventAt = System.currentTimeMillis();
+
+    WorkspaceEventChannel(int historySize) {
+        this.history = new ArrayList<>(Collections.nCopies(historySize, null));
+    }
+
+    List<WorkspaceEventSubscriber> getSubscribers() {
+        return subscribers;
+    }
+
+    long getLastEventAt() {
+        return lastEventAt;
+    }
+
+    long nextSequence() {
+        return lastSequence + 1;
+    }
+
+    void append(Set<DataWithMediaType> event) {
+        lastSequence++;
+        history.set((int) (lastSequence % history.size()), event);
+        lastEventAt = System.currentTimeMillis();
+    }
+
+    List<Set<DataWithMediaType>> since(long sequence) {
+        long oldest = Math.max(1, lastSequence - history.size() + 1);
+        if (sequence > lastSequence || sequence < oldest - 1) {
+            return null;
+        }
+        List<Set<DataWithMediaType>> missed = new ArrayList<>();
+        for (long next = sequence + 1; next <= lastSequence; next++) {
+            missed.add(history.get((int) (next % history.size())));
+        }
+        return missed;
+    }
+}
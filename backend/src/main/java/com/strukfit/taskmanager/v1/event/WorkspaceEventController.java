@@ -0,0 +1,35 @@
+package com.strukfit.taskmanager.v1.event;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.utils.SecurityUtils;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceService;
+
+@RestController
+@RequestMapping("/workspaces/{workspaceId}/events")
+public class WorkspaceEventController {
+    @Autowired
+    private WorkspaceEventBus workspaceEventBus;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long workspaceId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        User user = securityUtils.getCurrentUser();
+        workspaceService.checkAccess(workspaceId, user);
+        return workspaceEventBus.subscribe(workspaceId, lastEventId);
+    }
+}
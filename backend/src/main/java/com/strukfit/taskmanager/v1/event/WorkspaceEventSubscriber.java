@@ -0,0 +1,90 @@
+package com.strukfit.taskmanager.v1.event;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class WorkspaceEventSubscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> queue;
+    private final Executor dispatcher;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile boolean completed;
+    private volatile boolean evicted;
+
+    WorkspaceEventSubscriber(SseEmitter emitter, int bufferSize, Executor dispatcher) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    boolean offer(Set<DataWithMediaType> event) {
+        if (closed) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            evicted = true;
+            close();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    void close() {
+        closed = true;
+        queue.clear();
+        schedule();
+    }
+
+    void detach() {
+        completed = true;
+        closed = true;
+        queue.clear();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                evicted = true;
+                detach();
+                scheduled.set(false);
+                emitter.complete();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<DataWithMediaType> event;
+            while (!closed && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+            if (closed && !completed) {
+                completed = true;
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            detach();
+            emitter.completeWithError(e);
+        } finally {
+            scheduled.set(false);
+        }
+        if (closed ? !completed : !queue.isEmpty()) {
+            schedule();
+        }
+    }
+}
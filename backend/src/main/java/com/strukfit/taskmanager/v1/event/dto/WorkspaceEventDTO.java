@@ -0,0 +1,13 @@
+package com.strukfit.taskmanager.v1.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WorkspaceEventDTO {
+    private String type;
+    private String action;
+    private Long id;
+    private Long version;
+}
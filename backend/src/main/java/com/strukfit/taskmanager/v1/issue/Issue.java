@@ -2,18 +2,22 @@ package com.strukfit.taskmanager.v1.issue;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import com.strukfit.taskmanager.v1.issue.converter.PriorityConverter;
+import com.strukfit.taskmanager.v1.issue.converter.StatusConverter;
 import com.strukfit.taskmanager.v1.issue.enums.Priority;
 import com.strukfit.taskmanager.v1.issue.enums.Status;
 import com.strukfit.taskmanager.v1.project.Project;
 import com.strukfit.taskmanager.v1.workspace.Workspace;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -21,15 +25,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
 @Data
-@Table(indexes = { @Index(name = "idx_issue_workspace_project", columnList = "workspace_id,project_id") })
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_issue_workspace_project", columnList = "workspace_id,project_id"),
+        @Index(name = "idx_issue_workspace_status", columnList = "workspace_id,status,created_at,id"),
+        @Index(name = "idx_issue_workspace_priority", columnList = "workspace_id,priority,created_at,id"),
+        @Index(name = "idx_issue_workspace_updated", columnList = "workspace_id,updated_at,id") })
 public class Issue {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_seq")
+    @SequenceGenerator(name = "issue_seq", sequenceName = "issue_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -38,14 +52,28 @@ public class Issue {
     @Column(length = 2000, nullable = true)
     private String description;
 
-    @Enumerated(EnumType.STRING)
-    private Priority priority;
+    @Convert(converter = PriorityConverter.class)
+    @Column(nullable = false)
+    private Priority priority = Priority.NONE;
 
-    @Enumerated(EnumType.STRING)
-    private Status status;
+    @Convert(converter = StatusConverter.class)
+    @Column(nullable = false)
+    private Status status = Status.BACKLOG;
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // The trg_issue_updated_at trigger in schema.sql overwrites this with database time, the clock sync tokens
+    // are capped against. The JVM value here only fills the response to the write.
+    @UpdateTimestamp
+    @ColumnDefault("clock_timestamp()")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workspace_id", nullable = false)
     private Workspace workspace;
@@ -0,0 +1,8 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.util.List;
+import java.util.Set;
+
+public interface IssueBatchRepository {
+    void updateColumns(List<Issue> issues, Set<String> columns);
+}
@@ -0,0 +1,99 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes issues whose changes share one set of columns as a JDBC batch. Issue is mapped with
+ * {@code @DynamicUpdate}, and Hibernate never batches dynamic updates, so bulk updates go through here. The
+ * issues are detached afterwards so the same changes are not flushed a second time.
+ */
+public class IssueBatchRepositoryImpl implements IssueBatchRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    private static String column(String field) {
+        return switch (field) {
+            case "title", "description", "priority", "status" -> field;
+            case "project" -> "project_id";
+            default -> throw new IllegalArgumentException("Unknown issue column: " + field);
+        };
+    }
+
+    private static void bind(PreparedStatement statement, int index, Issue issue, String field)
+            throws SQLException {
+        switch (field) {
+            case "title" -> statement.setString(index, issue.getTitle());
+            case "description" -> statement.setString(index, issue.getDescription());
+            case "priority" ->
+                statement.setShort(index, IssueSql.priorityConverter.convertToDatabaseColumn(issue.getPriority()));
+            case "status" ->
+                statement.setShort(index, IssueSql.statusConverter.convertToDatabaseColumn(issue.getStatus()));
+            case "project" -> {
+                if (issue.getProject() != null) {
+                    statement.setLong(index, issue.getProject().getId());
+                } else {
+                    statement.setNull(index, Types.BIGINT);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown issue column: " + field);
+        }
+    }
+
+    @Override
+    public void updateColumns(List<Issue> issues, Set<String> columns) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        List<String> fields = List.copyOf(columns);
+        StringBuilder sql = new StringBuilder("update issue set ");
+        fields.forEach(field -> sql.append(column(field)).append(" = ?, "));
+        sql.append("version = version + 1 where id = ? and version = ?");
+
+        Session session = entityManager.unwrap(Session.class);
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                for (int from = 0; from < issues.size(); from += batchSize) {
+                    List<Issue> chunk = issues.subList(from, Math.min(from + batchSize, issues.size()));
+                    for (Issue issue : chunk) {
+                        int index = 1;
+                        for (String field : fields) {
+                            bind(statement, index++, issue, field);
+                        }
+                        statement.setLong(index++, issue.getId());
+                        statement.setLong(index, issue.getVersion());
+                        statement.addBatch();
+                    }
+                    int[] counts = statement.executeBatch();
+                    for (int count : counts) {
+                        if (count == 0) {
+                            throw new OptimisticLockingFailureException("Issue was updated concurrently");
+                        }
+                    }
+                }
+            }
+        });
+
+        for (Issue issue : issues) {
+            entityManager.detach(issue);
+            issue.setVersion(issue.getVersion() + 1);
+            issue.setUpdatedAt(updatedAt);
+        }
+    }
+}
@@ -1,27 +1,46 @@
 package com.strukfit.taskmanager.v1.issue;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.strukfit.taskmanager.common.dto.ApiResponse;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkCreateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkDeleteDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkUpdateDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueCreateDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueExportDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssuePageDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueQueryDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueStatsDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueUpdateDTO;
 import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.utils.ETagUtils;
 import com.strukfit.taskmanager.v1.utils.SecurityUtils;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceService;
 
 import jakarta.validation.Valid;
 
@@ -37,21 +56,74 @@ public class IssueController {
     @Autowired
     private SecurityUtils securityUtils;
 
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private ETagUtils eTagUtils;
+
     @GetMapping
-    public ResponseEntity<ApiResponse<Map<String, List<IssueDTO>>>> getGroupedByStatus(
+    public ResponseEntity<ApiResponse<Map<String, IssuePageDTO>>> getGroupedByStatus(
             @PathVariable Long workspaceId,
+            @Valid @ModelAttribute IssueQueryDTO dto,
+            WebRequest request) {
+        User user = securityUtils.getCurrentUser();
+        String eTag = workspaceService.getContentETag(workspaceId, user);
+        if (eTagUtils.matches(request, eTag)) {
+            return eTagUtils.notModified(eTag);
+        }
+        Map<String, IssuePageDTO> issues = issueService.getByWorkspace(workspaceId, user, dto);
+        return eTagUtils.ok(eTag, ApiResponse.success(issues));
+    }
+
+    @GetMapping("/groups/{group}")
+    public ResponseEntity<ApiResponse<IssuePageDTO>> getGroupPage(
+            @PathVariable Long workspaceId,
+            @PathVariable String group,
             @Valid @ModelAttribute IssueQueryDTO dto) {
         User user = securityUtils.getCurrentUser();
-        Map<String, List<IssueDTO>> issues = issueService.getByWorkspace(workspaceId, user, dto);
+        IssuePageDTO page = issueService.getGroupPage(workspaceId, group, user, dto);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<IssueDTO>>> search(
+            @PathVariable Long workspaceId,
+            @Valid @ModelAttribute IssueSearchDTO dto) {
+        User user = securityUtils.getCurrentUser();
+        Page<IssueDTO> issues = issueService.search(workspaceId, user, dto);
         return ResponseEntity.ok(ApiResponse.success(issues));
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<IssueStatsDTO>> getStats(@PathVariable Long workspaceId) {
+        User user = securityUtils.getCurrentUser();
+        IssueStatsDTO stats = issueService.getStats(workspaceId, user);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long workspaceId,
+            @Valid @ModelAttribute IssueExportDTO dto) {
+        User user = securityUtils.getCurrentUser();
+        StreamingResponseBody body = issueService.export(workspaceId, user, dto);
+        boolean csv = "csv".equals(dto.getFormat());
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("issues-" + workspaceId + (csv ? ".csv" : ".ndjson"))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<IssueDTO>> getById(@PathVariable Long workspaceId, @PathVariable Long id) {
         User user = securityUtils.getCurrentUser();
         Issue entity = issueService.getById(workspaceId, id, user);
         IssueDTO issue = issueMapper.toDTO(entity);
-        return ResponseEntity.ok(ApiResponse.success(issue));
+        return ResponseEntity.ok().eTag(String.valueOf(entity.getVersion())).body(ApiResponse.success(issue));
     }
 
     @PostMapping
@@ -63,6 +135,34 @@ public class IssueController {
         return ResponseEntity.status(201).body(ApiResponse.success(issue));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<IssueDTO>>> createAll(@PathVariable Long workspaceId,
+            @Valid @RequestBody IssueBulkCreateDTO dto) {
+        User user = securityUtils.getCurrentUser();
+        List<IssueDTO> issues = issueService.createAll(workspaceId, dto, user).stream()
+                .map(issueMapper::toDTO)
+                .toList();
+        return ResponseEntity.status(201).body(ApiResponse.success(issues));
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<IssueDTO>>> updateAll(@PathVariable Long workspaceId,
+            @Valid @RequestBody IssueBulkUpdateDTO dto) {
+        User user = securityUtils.getCurrentUser();
+        List<IssueDTO> issues = issueService.updateAll(workspaceId, dto, user).stream()
+                .map(issueMapper::toDTO)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(issues));
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<Void>> deleteAll(@PathVariable Long workspaceId,
+            @Valid @RequestBody IssueBulkDeleteDTO dto) {
+        User user = securityUtils.getCurrentUser();
+        issueService.deleteAll(workspaceId, dto, user);
+        return ResponseEntity.status(204).body(ApiResponse.success(null, "Issues deleted"));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<IssueDTO>> update(@PathVariable Long workspaceId, @PathVariable Long id,
             @Valid @RequestBody IssueUpdateDTO dto) {
@@ -72,6 +172,16 @@ public class IssueController {
         return ResponseEntity.ok(ApiResponse.success(issue));
     }
 
+    @PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ApiResponse<IssueDTO>> patch(@PathVariable Long workspaceId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        User user = securityUtils.getCurrentUser();
+        Issue entity = issueService.patch(workspaceId, id, patch, eTagUtils.parseVersion(ifMatch), user);
+        IssueDTO issue = issueMapper.toDTO(entity);
+        return ResponseEntity.ok().eTag(String.valueOf(entity.getVersion())).body(ApiResponse.success(issue));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long workspaceId, @PathVariable Long id) {
         User user = securityUtils.getCurrentUser();
@@ -0,0 +1,55 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueCursor {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String groupBy;
+    private String group;
+    private String sortBy;
+    private String sortOrder;
+    private String value;
+    private Long id;
+
+    public String encode() {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to encode cursor", e);
+        }
+    }
+
+    public static IssueCursor decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            IssueCursor decoded = objectMapper.readValue(json, IssueCursor.class);
+            if (decoded.getGroupBy() == null || decoded.getGroup() == null || decoded.getSortBy() == null
+                    || decoded.getSortOrder() == null || decoded.getValue() == null || decoded.getId() == null) {
+                throw new RuntimeException("Invalid cursor");
+            }
+            return decoded;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public boolean matches(String groupBy, String sortBy, String sortOrder) {
+        return this.groupBy.equalsIgnoreCase(groupBy)
+                && this.sortBy.equalsIgnoreCase(sortBy)
+                && this.sortOrder.equalsIgnoreCase(sortOrder);
+    }
+}
@@ -0,0 +1,95 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strukfit.taskmanager.v1.issue.dto.IssueDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Component
+public class IssueExportWriter {
+    private static final String CSV_HEADER = "id,title,description,status,priority,createdAt,projectId,projectName";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private void writeCsv(IssueDTO issue, Writer writer) throws IOException {
+        writer.write(String.join(",",
+                csv(issue.getId()),
+                csv(issue.getTitle()),
+                csv(issue.getDescription()),
+                csv(issue.getStatus()),
+                csv(issue.getPriority()),
+                csv(issue.getCreatedAt()),
+                csv(issue.getProject() != null ? issue.getProject().getId() : null),
+                csv(issue.getProject() != null ? issue.getProject().getName() : null)));
+        writer.write('\n');
+    }
+
+    private void writeNdjson(IssueDTO issue, Writer writer) throws IOException {
+        writer.write(objectMapper.writeValueAsString(issue));
+        writer.write('\n');
+    }
+
+    @Transactional(readOnly = true)
+    public void write(Long workspaceId, String format, OutputStream outputStream) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Issue> issues = issueRepository.streamByWorkspaceId(workspaceId)) {
+            issues.forEach(issue -> {
+                try {
+                    IssueDTO dto = issueMapper.toDTO(issue);
+                    if (csv) {
+                        writeCsv(dto, writer);
+                    } else {
+                        writeNdjson(dto, writer);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                entityManager.detach(issue);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+}
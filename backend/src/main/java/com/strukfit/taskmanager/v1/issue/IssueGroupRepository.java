@@ -0,0 +1,16 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.util.List;
+import java.util.Map;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueQueryDTO;
+
+public interface IssueGroupRepository {
+    Map<String, Long> countByGroup(Long workspaceId, IssueQueryDTO dto);
+
+    long countGroup(Long workspaceId, IssueQueryDTO dto, String group);
+
+    List<Long> findTopIdsByGroup(Long workspaceId, IssueQueryDTO dto);
+
+    List<Long> findGroupPageIds(Long workspaceId, IssueQueryDTO dto, String group, IssueCursor cursor, int limit);
+}
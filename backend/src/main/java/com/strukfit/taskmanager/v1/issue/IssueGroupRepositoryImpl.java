@@ -0,0 +1,169 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueQueryDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class IssueGroupRepositoryImpl implements IssueGroupRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static String groupColumn(String groupBy) {
+        return switch (groupBy == null ? "" : groupBy.toLowerCase()) {
+            case "status" -> "i.status";
+            case "priority" -> "i.priority";
+            case "project" -> "p.name";
+            default -> null;
+        };
+    }
+
+    private static String sortColumn(String sortBy) {
+        return switch (sortBy == null ? "" : sortBy.toLowerCase()) {
+            case "priority" -> "i.priority";
+            case "status" -> "i.status";
+            case "title" -> "i.title";
+            default -> "i.created_at";
+        };
+    }
+
+    private static boolean isProjectGroup(IssueQueryDTO dto) {
+        return "project".equalsIgnoreCase(dto.getGroupBy());
+    }
+
+    private static String direction(String sortOrder) {
+        return "asc".equalsIgnoreCase(sortOrder) ? "asc" : "desc";
+    }
+
+    private static String groupName(Object value, String groupBy) {
+        if (value == null) {
+            return null;
+        }
+        return switch (groupBy.toLowerCase()) {
+            case "status" ->
+                IssueSql.statusConverter.convertToEntityAttribute(((Number) value).shortValue()).name();
+            case "priority" ->
+                IssueSql.priorityConverter.convertToEntityAttribute(((Number) value).shortValue()).name();
+            default -> value.toString();
+        };
+    }
+
+    private static Object cursorValue(IssueCursor cursor) {
+        return switch (cursor.getSortBy().toLowerCase()) {
+            case "priority" ->
+                IssueSql.priorityConverter.convertToDatabaseColumn(Priority.valueOf(cursor.getValue()));
+            case "status" -> IssueSql.statusConverter.convertToDatabaseColumn(Status.valueOf(cursor.getValue()));
+            case "title" -> cursor.getValue();
+            default -> LocalDateTime.parse(cursor.getValue());
+        };
+    }
+
+    private static String groupFilter(String groupBy, String group, Map<String, Object> params) {
+        switch (groupBy.toLowerCase()) {
+            case "status" ->
+                params.put("group", IssueSql.statusConverter.convertToDatabaseColumn(Status.valueOf(group)));
+            case "priority" ->
+                params.put("group", IssueSql.priorityConverter.convertToDatabaseColumn(Priority.valueOf(group)));
+            case "project" -> {
+                if (IssueService.NO_PROJECT_GROUP.equals(group)) {
+                    return " and i.project_id is null";
+                }
+                params.put("group", group);
+            }
+            default -> {
+                return "";
+            }
+        }
+        return " and " + groupColumn(groupBy) + " = :group";
+    }
+
+    private static List<Long> ids(Query query) {
+        return ((List<?>) query.getResultList()).stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    @Override
+    public Map<String, Long> countByGroup(Long workspaceId, IssueQueryDTO dto) {
+        String group = groupColumn(dto.getGroupBy());
+        Map<String, Object> params = new HashMap<>();
+        String sql = group != null
+                ? "select " + group + " as grp, count(*)" + IssueSql.from(dto, params, isProjectGroup(dto))
+                        + " group by " + group
+                : "select null as grp, count(*)" + IssueSql.from(dto, params, false);
+
+        Query query = entityManager.createNativeQuery(sql);
+        IssueSql.bind(query, workspaceId, params);
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            counts.put(groupName(row[0], dto.getGroupBy()), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public long countGroup(Long workspaceId, IssueQueryDTO dto, String group) {
+        Map<String, Object> params = new HashMap<>();
+        String sql = "select count(*)" + IssueSql.from(dto, params, isProjectGroup(dto))
+                + groupFilter(dto.getGroupBy(), group, params);
+
+        Query query = entityManager.createNativeQuery(sql);
+        IssueSql.bind(query, workspaceId, params);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    public List<Long> findTopIdsByGroup(Long workspaceId, IssueQueryDTO dto) {
+        String group = groupColumn(dto.getGroupBy());
+        String direction = direction(dto.getSortOrder());
+        String window = (group != null ? "partition by " + group + " " : "")
+                + "order by " + sortColumn(dto.getSortBy()) + " " + direction + ", i.id " + direction;
+
+        Map<String, Object> params = new HashMap<>();
+        String sql = "select ranked.id"
+                + " from (select i.id, row_number() over (" + window + ") as rn"
+                + IssueSql.from(dto, params, isProjectGroup(dto)) + ") ranked"
+                + " where ranked.rn <= :limit order by ranked.rn";
+
+        Query query = entityManager.createNativeQuery(sql);
+        IssueSql.bind(query, workspaceId, params);
+        query.setParameter("limit", dto.getLimit());
+        return ids(query);
+    }
+
+    @Override
+    public List<Long> findGroupPageIds(Long workspaceId, IssueQueryDTO dto, String group, IssueCursor cursor,
+            int limit) {
+        String sortColumn = sortColumn(dto.getSortBy());
+        String direction = direction(dto.getSortOrder());
+
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder("select i.id")
+                .append(IssueSql.from(dto, params, isProjectGroup(dto)))
+                .append(groupFilter(dto.getGroupBy(), group, params));
+        if (cursor != null) {
+            sql.append(" and (").append(sortColumn).append(", i.id) ")
+                    .append("asc".equals(direction) ? ">" : "<")
+                    .append(" (:cursorValue, :cursorId)");
+            params.put("cursorValue", cursorValue(cursor));
+            params.put("cursorId", cursor.getId());
+        }
+        sql.append(" order by ").append(sortColumn).append(" ").append(direction)
+                .append(", i.id ").append(direction)
+                .append(" limit :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        IssueSql.bind(query, workspaceId, params);
+        query.setParameter("limit", limit);
+        return ids(query);
+    }
+}
@@ -8,12 +8,15 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import com.strukfit.taskmanager.v1.issue.dto.IssueCreateDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssuePatchDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueUpdateDTO;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public interface IssueMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "workspace", ignore = true)
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "description", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
@@ -21,10 +24,24 @@ public interface IssueMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "workspace", ignore = true)
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "description", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
     void updateIssueFromDTO(IssueUpdateDTO dto, @MappingTarget Issue issue);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "workspace", ignore = true)
+    @Mapping(target = "project", ignore = true)
+    @Mapping(target = "description", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    void patchIssueFromDTO(IssuePatchDTO dto, @MappingTarget Issue issue);
+
+    @Mapping(target = "projectId", source = "project.id")
+    IssuePatchDTO toPatchDTO(Issue issue);
+
     IssueDTO toDTO(Issue issue);
 }
@@ -1,15 +1,70 @@
 package com.strukfit.taskmanager.v1.issue;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.strukfit.taskmanager.v1.issue.search.IndexedIssue;
 import com.strukfit.taskmanager.v1.project.Project;
 import com.strukfit.taskmanager.v1.workspace.Workspace;
 
-public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue>,
+        IssueGroupRepository, IssueSearchRepository, IssueBatchRepository {
     List<Issue> findByWorkspace(Workspace workspace);
 
     List<Issue> findByWorkspaceAndProject(Workspace workspace, Project project);
+
+    @EntityGraph(attributePaths = { "workspace", "project" })
+    Optional<Issue> findWithWorkspaceAndProjectById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Issue> findLockedById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Issue> findLockedByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = { "project" })
+    List<Issue> findWithProjectByIdIn(Collection<Long> ids);
+
+    @Query("select new com.strukfit.taskmanager.v1.issue.search.IndexedIssue("
+            + "i.id, i.title, i.description, i.status, i.priority, p.id, i.version)"
+            + " from Issue i left join i.project p where i.workspace.id = :workspaceId")
+    List<IndexedIssue> findIndexedByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Query("select new com.strukfit.taskmanager.v1.issue.search.IndexedIssue("
+            + "i.id, i.title, i.description, i.status, i.priority, p.id, i.version)"
+            + " from Issue i left join i.project p where i.id = :id")
+    Optional<IndexedIssue> findIndexedById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select i from Issue i left join fetch i.project where i.workspace.id = :workspaceId order by i.id")
+    Stream<Issue> streamByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Query("select i from Issue i left join fetch i.project where i.workspace.id = :workspaceId"
+            + " and i.updatedAt >= :updatedAt and (i.updatedAt > :updatedAt or i.id > :id)"
+            + " order by i.updatedAt, i.id")
+    List<Issue> findChangedSince(@Param("workspaceId") Long workspaceId, @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id, Limit limit);
+
+    @Modifying
+    @Query("update versioned Issue i set i.project = null where i.project.id = :projectId")
+    int detachProject(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,9 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import org.springframework.data.domain.Page;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+
+public interface IssueSearchRepository {
+    Page<Long> search(Long workspaceId, IssueSearchDTO dto);
+}
@@ -0,0 +1,55 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class IssueSearchRepositoryImpl implements IssueSearchRepository {
+    private static final String TS_QUERY = "websearch_to_tsquery('english', :q)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Long> search(Long workspaceId, IssueSearchDTO dto) {
+        Pageable pageable = PageRequest.of(dto.getPage(), dto.getSize());
+        String match = " and i.search_vector @@ " + TS_QUERY;
+
+        Map<String, Object> countParams = new HashMap<>();
+        Query countQuery = entityManager.createNativeQuery(
+                "select count(*)" + IssueSql.from(dto, countParams, false) + match);
+        IssueSql.bind(countQuery, workspaceId, countParams);
+        countQuery.setParameter("q", dto.getQ());
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        String sql = "select i.id, ts_rank(i.search_vector, " + TS_QUERY + ") as rank"
+                + IssueSql.from(dto, params, false) + match
+                + " order by rank desc, i.id desc limit :limit offset :offset";
+
+        Query query = entityManager.createNativeQuery(sql);
+        IssueSql.bind(query, workspaceId, params);
+        query.setParameter("q", dto.getQ());
+        query.setParameter("limit", pageable.getPageSize());
+        query.setParameter("offset", pageable.getOffset());
+        List<Long> ids = ((List<?>) query.getResultList()).stream()
+                .map(row -> ((Number) ((Object[]) row)[0]).longValue())
+                .toList();
+        return new PageImpl<>(ids, pageable, total);
+    }
+}
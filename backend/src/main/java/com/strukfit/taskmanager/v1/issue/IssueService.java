@@ -1,33 +1,67 @@
 package com.strukfit.taskmanager.v1.issue;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService;
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService.CounterKey;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkCreateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkDeleteDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkUpdateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkUpdateItemDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueCreateDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueExportDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssuePageDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssuePatchDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueQueryDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueStatsDTO;
 import com.strukfit.taskmanager.v1.issue.dto.IssueUpdateDTO;
-import com.strukfit.taskmanager.v1.issue.enums.Priority;
-import com.strukfit.taskmanager.v1.issue.enums.Status;
+import com.strukfit.taskmanager.v1.issue.search.IssueSearchIndex;
 import com.strukfit.taskmanager.v1.project.Project;
 import com.strukfit.taskmanager.v1.project.ProjectRepository;
+import com.strukfit.taskmanager.v1.sync.SyncService;
+import com.strukfit.taskmanager.v1.sync.enums.TombstoneType;
 import com.strukfit.taskmanager.v1.user.User;
-import com.strukfit.taskmanager.v1.utils.CriteriaUtils;
 import com.strukfit.taskmanager.v1.workspace.Workspace;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceAuthorizer;
 import com.strukfit.taskmanager.v1.workspace.WorkspaceRepository;
 
-import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Order;
-import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class IssueService {
+    static final String NO_PROJECT_GROUP = "None";
+    static final String ALL_GROUP = "all";
+
     @Autowired
     private IssueRepository issueRepository;
 
@@ -37,16 +71,68 @@ public class IssueService {
     @Autowired
     private WorkspaceRepository workspaceRepository;
 
+    @Autowired
+    private WorkspaceAuthorizer workspaceAuthorizer;
+
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private IssueSearchIndex issueSearchIndex;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private IssueExportWriter issueExportWriter;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${app.issue-search.engine:postgres}")
+    private String searchEngine;
+
     private Workspace getWorkspaceById(Long id, User user) {
-        Workspace workspace = workspaceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Workspace not found"));
-        if (!workspace.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("Unauthorized");
+        workspaceAuthorizer.checkAccess(id, user);
+        return workspaceRepository.getReferenceById(id);
+    }
+
+    // Callers flush first so updated issues carry the version that was written.
+    private void publish(Long workspaceId, String action, Issue issue) {
+        applicationEventPublisher.publishEvent(new WorkspaceEvent(workspaceId, WorkspaceEvent.ISSUE, action,
+                issue.getId(), WorkspaceEvent.DELETED.equals(action) ? null : issue.getVersion()));
+    }
+
+    // Mirrors IssueMapper.updateIssueFromDTO: null fields are ignored except description, which is always set.
+    private static Set<String> changedColumns(Issue issue, IssueUpdateDTO dto) {
+        Set<String> columns = new TreeSet<>();
+        if (dto.getTitle() != null && !dto.getTitle().equals(issue.getTitle())) {
+            columns.add("title");
+        }
+        if (!Objects.equals(dto.getDescription(), issue.getDescription())) {
+            columns.add("description");
         }
-        return workspace;
+        if (dto.getPriority() != null && dto.getPriority() != issue.getPriority()) {
+            columns.add("priority");
+        }
+        if (dto.getStatus() != null && dto.getStatus() != issue.getStatus()) {
+            columns.add("status");
+        }
+        Long projectId = issue.getProject() != null ? issue.getProject().getId() : null;
+        if (dto.getProjectId() != null
+                && !Objects.equals(dto.getProjectId() == -1 ? null : dto.getProjectId(), projectId)) {
+            columns.add("project");
+        }
+        return columns;
     }
 
     private Project getProjectById(Long workspaceId, Long projectId) {
@@ -58,9 +144,51 @@ public class IssueService {
         return project;
     }
 
+    private Map<Long, Project> getProjectsById(Long workspaceId, Collection<Long> projectIds) {
+        Set<Long> ids = projectIds.stream()
+                .filter(id -> id != null && id != -1)
+                .collect(Collectors.toSet());
+        Map<Long, Project> projects = new HashMap<>();
+        if (ids.isEmpty()) {
+            return projects;
+        }
+        projectRepository.findAllById(ids).forEach(project -> projects.put(project.getId(), project));
+        for (Long id : ids) {
+            Project project = projects.get(id);
+            if (project == null) {
+                throw new RuntimeException("Project not found");
+            }
+            if (!project.getWorkspace().getId().equals(workspaceId)) {
+                throw new RuntimeException("Project does not belong to workspace");
+            }
+        }
+        return projects;
+    }
+
+    private List<Issue> getIssuesForUpdate(Long workspaceId, Collection<Long> ids) {
+        Set<Long> uniqueIds = new TreeSet<>(ids);
+        List<Issue> issues = issueRepository.findLockedByIdInOrderByIdAsc(uniqueIds);
+        if (issues.size() != uniqueIds.size()) {
+            throw new RuntimeException("Issue not found");
+        }
+        for (Issue issue : issues) {
+            if (!issue.getWorkspace().getId().equals(workspaceId)) {
+                throw new RuntimeException("Issue does not belong to workspace");
+            }
+        }
+        return issues;
+    }
+
     private Issue getIssueById(Long workspaceId, Long id, User user) {
-        Issue issue = issueRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Issue not found"));
+        return checkIssue(issueRepository.findWithWorkspaceAndProjectById(id), workspaceId, user);
+    }
+
+    private Issue getIssueForUpdate(Long workspaceId, Long id, User user) {
+        return checkIssue(issueRepository.findLockedById(id), workspaceId, user);
+    }
+
+    private Issue checkIssue(Optional<Issue> found, Long workspaceId, User user) {
+        Issue issue = found.orElseThrow(() -> new RuntimeException("Issue not found"));
         if (!issue.getWorkspace().getUser().getId().equals(user.getId())) {
             throw new RuntimeException("Unauthorized");
         }
@@ -82,114 +210,285 @@ public class IssueService {
         issue.setProject(project);
     }
 
-    private Specification<Issue> buildSpecification(Workspace workspace,
-            List<Long> projectIds,
-            List<Status> statuses,
-            List<String> priorities,
-            String sortBy,
-            String sortOrder) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            predicates.add(cb.equal(root.get("workspace"), workspace));
-
-            if (projectIds != null && !projectIds.isEmpty()) {
-                List<Predicate> projectPredicates = new ArrayList<>();
-                if (projectIds.contains(-1L)) {
-                    projectPredicates.add(cb.isNull(root.get("project")));
-                }
-                if (projectIds.stream().anyMatch(id -> id != -1)) {
-                    projectPredicates
-                            .add(root.get("project").get("id").in(projectIds.stream().filter(id -> id != -1).toList()));
-                }
-                predicates.add(cb.or(projectPredicates.toArray(new Predicate[0])));
-            }
+    private String sortValue(IssueDTO issue, String sortBy) {
+        return switch (sortBy.toLowerCase()) {
+            case "priority" -> issue.getPriority().name();
+            case "status" -> issue.getStatus().name();
+            case "title" -> issue.getTitle();
+            default -> issue.getCreatedAt();
+        };
+    }
 
-            if (statuses != null && !statuses.isEmpty()) {
-                predicates.add(root.get("status").in(statuses));
-            }
+    private String groupKey(IssueDTO issue, String groupBy) {
+        return switch (groupBy) {
+            case "status" -> issue.getStatus().name();
+            case "priority" -> issue.getPriority().name();
+            case "project" -> issue.getProject() != null ? issue.getProject().getName() : NO_PROJECT_GROUP;
+            default -> ALL_GROUP;
+        };
+    }
+
+    private String groupKey(String value, String groupBy) {
+        return switch (groupBy) {
+            case "status", "priority" -> value;
+            case "project" -> value != null ? value : NO_PROJECT_GROUP;
+            default -> ALL_GROUP;
+        };
+    }
+
+    private String nextCursor(List<IssueDTO> items, String groupBy, String group, String sortBy, String sortOrder) {
+        IssueDTO last = items.get(items.size() - 1);
+        return new IssueCursor(groupBy, group, sortBy, sortOrder, sortValue(last, sortBy), last.getId()).encode();
+    }
 
-            if (priorities != null && !priorities.isEmpty()) {
-                predicates.add(root.get("priority").in(priorities));
+    private Map<String, Long> countByGroup(Long workspaceId, IssueQueryDTO dto, String groupBy) {
+        Map<String, Long> counts = new HashMap<>();
+        issueRepository.countByGroup(workspaceId, dto).forEach((value, count) -> {
+            String key = groupKey(value, groupBy);
+            if (key != null) {
+                counts.merge(key, count, Long::sum);
             }
+        });
+        return counts;
+    }
+
+    private IssuePageDTO getGroupPage(Long workspaceId, String group, IssueQueryDTO dto) {
+        String sortBy = dto.getSortBy() != null ? dto.getSortBy() : "createdAt";
+        String sortOrder = dto.getSortOrder() != null ? dto.getSortOrder() : "desc";
+        String groupBy = dto.getGroupBy().toLowerCase();
+        int limit = dto.getLimit();
 
-            if (query != null && sortBy != null && !sortBy.isEmpty()) {
-                Expression<?> sortField = switch (sortBy.toLowerCase()) {
-                    case "priority" -> CriteriaUtils.mapEnumToOrdinal(root, "priority", Priority.class, cb);
-                    case "status" -> CriteriaUtils.mapEnumToOrdinal(root, "status", Status.class, cb);
-                    case "title" -> root.get("title");
-                    case "createdat" -> root.get("createdAt");
-                    default -> root.get("createdAt");
-                };
-                Order order = "asc".equalsIgnoreCase(sortOrder) ? cb.asc(sortField) : cb.desc(sortField);
-                query.orderBy(order);
+        IssueCursor cursor = null;
+        if (dto.getCursor() != null && !dto.getCursor().isEmpty()) {
+            cursor = IssueCursor.decode(dto.getCursor());
+            if (!cursor.matches(groupBy, sortBy, sortOrder) || !cursor.getGroup().equals(group)) {
+                throw new RuntimeException("Cursor does not match the requested group, sorting or grouping");
             }
+        }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        List<IssueDTO> issues = toDTOs(issueRepository.findGroupPageIds(workspaceId, dto, group, cursor, limit + 1));
+        boolean hasMore = issues.size() > limit;
+        List<IssueDTO> items = hasMore ? issues.subList(0, limit) : issues;
+        String nextCursor = hasMore ? nextCursor(items, groupBy, group, sortBy, sortOrder) : null;
+        long total = issueRepository.countGroup(workspaceId, dto, group);
+
+        return new IssuePageDTO(items, nextCursor, total);
     }
 
-    public Map<String, List<IssueDTO>> getByWorkspace(Long workspaceId, User user, IssueQueryDTO dto) {
-        Workspace workspace = getWorkspaceById(workspaceId, user);
+    public Map<String, IssuePageDTO> getByWorkspace(Long workspaceId, User user, IssueQueryDTO dto) {
+        getWorkspaceById(workspaceId, user);
 
-        List<Long> projectIds = dto.getProjectIds();
-        List<Status> statuses = dto.getStatuses();
-        List<String> priorities = dto.getPriorities();
-        String sortBy = dto.getSortBy();
-        String sortOrder = dto.getSortOrder();
-        String groupBy = dto.getGroupBy();
+        if (dto.getCursor() != null && !dto.getCursor().isEmpty()) {
+            String group = IssueCursor.decode(dto.getCursor()).getGroup();
+            return Map.of(group, getGroupPage(workspaceId, group, dto));
+        }
 
-        Specification<Issue> spec = buildSpecification(workspace, projectIds, statuses, priorities, sortBy, sortOrder);
-        List<Issue> issues = issueRepository.findAll(spec);
+        String sortBy = dto.getSortBy() != null ? dto.getSortBy() : "createdAt";
+        String sortOrder = dto.getSortOrder() != null ? dto.getSortOrder() : "desc";
+        String groupBy = dto.getGroupBy().toLowerCase();
 
-        String groupByLowerCase = groupBy.toLowerCase();
+        Map<String, Long> counts = countByGroup(workspaceId, dto, groupBy);
 
-        if ("status".equals(groupByLowerCase)) {
-            return issues.stream()
-                    .collect(Collectors.groupingBy(
-                            issue -> issue.getStatus().name(),
-                            Collectors.mapping(issueMapper::toDTO, Collectors.toList())));
+        Map<String, List<IssueDTO>> grouped = new LinkedHashMap<>();
+        for (IssueDTO issue : toDTOs(issueRepository.findTopIdsByGroup(workspaceId, dto))) {
+            grouped.computeIfAbsent(groupKey(issue, groupBy), k -> new ArrayList<>()).add(issue);
         }
 
-        if ("priority".equals(groupByLowerCase)) {
-            return issues.stream()
-                    .collect(Collectors.groupingBy(
-                            issue -> issue.getPriority().name(),
-                            Collectors.mapping(issueMapper::toDTO, Collectors.toList())));
+        Map<String, IssuePageDTO> pages = new LinkedHashMap<>();
+        grouped.forEach((group, items) -> {
+            long total = counts.getOrDefault(group, (long) items.size());
+            String nextCursor = total > items.size() ? nextCursor(items, groupBy, group, sortBy, sortOrder) : null;
+            pages.put(group, new IssuePageDTO(items, nextCursor, total));
+        });
+        return pages;
+    }
 
-        }
+    public IssuePageDTO getGroupPage(Long workspaceId, String group, User user, IssueQueryDTO dto) {
+        getWorkspaceById(workspaceId, user);
+        return getGroupPage(workspaceId, group, dto);
+    }
+
+    public Page<IssueDTO> search(Long workspaceId, User user, IssueSearchDTO dto) {
+        getWorkspaceById(workspaceId, user);
+        Page<Long> ids = "memory".equalsIgnoreCase(searchEngine)
+                ? issueSearchIndex.search(workspaceId, dto)
+                : issueRepository.search(workspaceId, dto);
+        return new PageImpl<>(toDTOs(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
 
-        if ("project".equals(groupByLowerCase)) {
-            return issues.stream()
-                    .collect(Collectors.groupingBy(
-                            issue -> issue.getProject() != null ? String.valueOf(issue.getProject().getName()) : "None",
-                            Collectors.mapping(issueMapper::toDTO, Collectors.toList())));
+    private List<IssueDTO> toDTOs(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        Map<Long, Issue> issues = issueRepository.findWithProjectByIdIn(ids).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+        return ids.stream()
+                .map(issues::get)
+                .filter(Objects::nonNull)
+                .map(issueMapper::toDTO)
+                .toList();
+    }
+
+    public StreamingResponseBody export(Long workspaceId, User user, IssueExportDTO dto) {
+        getWorkspaceById(workspaceId, user);
+        return outputStream -> issueExportWriter.write(workspaceId, dto.getFormat(), outputStream);
+    }
 
-        return Map.of("all", issues.stream().map(issueMapper::toDTO).collect(Collectors.toList()));
+    public IssueStatsDTO getStats(Long workspaceId, User user) {
+        getWorkspaceById(workspaceId, user);
+        return issueCounterService.getStats(workspaceId);
     }
 
     public Issue getById(Long workspaceId, Long id, User user) {
         return getIssueById(workspaceId, id, user);
     }
 
+    @Transactional
     public Issue create(Long workspaceId, IssueCreateDTO dto, User user) {
         Workspace workspace = getWorkspaceById(workspaceId, user);
         Issue issue = new Issue();
         issueMapper.createIssueFromDTO(dto, issue);
         issue.setWorkspace(workspace);
         updateIssueProject(issue, dto.getProjectId());
-        return issueRepository.save(issue);
+        Issue saved = issueRepository.save(issue);
+        issueCounterService.issueCreated(saved);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        publish(workspaceId, WorkspaceEvent.CREATED, saved);
+        return saved;
+    }
+
+    @Transactional
+    public List<Issue> createAll(Long workspaceId, IssueBulkCreateDTO dto, User user) {
+        Workspace workspace = getWorkspaceById(workspaceId, user);
+        Map<Long, Project> projects = getProjectsById(workspaceId,
+                dto.getIssues().stream().map(IssueCreateDTO::getProjectId).toList());
+
+        List<Issue> issues = new ArrayList<>();
+        for (IssueCreateDTO item : dto.getIssues()) {
+            Issue issue = new Issue();
+            issueMapper.createIssueFromDTO(item, issue);
+            issue.setWorkspace(workspace);
+            issue.setProject(projects.get(item.getProjectId()));
+            issues.add(issue);
+        }
+
+        List<Issue> saved = issueRepository.saveAll(issues);
+        issueCounterService.issuesCreated(workspaceId, saved);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        saved.forEach(issue -> publish(workspaceId, WorkspaceEvent.CREATED, issue));
+        return saved;
     }
 
+    @Transactional
     public Issue update(Long workspaceId, Long id, IssueUpdateDTO dto, User user) {
-        Issue issue = getIssueById(workspaceId, id, user);
+        Issue issue = getIssueForUpdate(workspaceId, id, user);
+        List<CounterKey> counterKeys = IssueCounterService.keysOf(issue);
         issueMapper.updateIssueFromDTO(dto, issue);
         updateIssueProject(issue, dto.getProjectId());
-        return issueRepository.save(issue);
+        Issue saved = issueRepository.saveAndFlush(issue);
+        issueCounterService.issueUpdated(counterKeys, saved);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        publish(workspaceId, WorkspaceEvent.UPDATED, saved);
+        return saved;
     }
 
-    public void delete(Long workspaceId, Long id, User user) {
+    @Transactional
+    public Issue patch(Long workspaceId, Long id, JsonNode patch, Long expectedVersion, User user) {
+        if (!patch.isObject()) {
+            throw new RuntimeException("Patch must be a JSON object");
+        }
         Issue issue = getIssueById(workspaceId, id, user);
+        if (expectedVersion != null && !expectedVersion.equals(issue.getVersion())) {
+            throw new OptimisticLockingFailureException("Issue version does not match");
+        }
+        List<CounterKey> counterKeys = IssueCounterService.keysOf(issue);
+
+        IssuePatchDTO dto = issueMapper.toPatchDTO(issue);
+        try {
+            objectMapper.readerForUpdating(dto).readValue(patch);
+        } catch (IOException e) {
+            throw new RuntimeException("Invalid patch document");
+        }
+        Set<ConstraintViolation<IssuePatchDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new HashMap<>();
+            violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            throw new RuntimeException("Validation failed: " + errors);
+        }
+
+        issueMapper.patchIssueFromDTO(dto, issue);
+        Long projectId = issue.getProject() != null ? issue.getProject().getId() : null;
+        if (!Objects.equals(projectId, dto.getProjectId())) {
+            updateIssueProject(issue, dto.getProjectId() != null ? dto.getProjectId() : -1L);
+        }
+        issueRepository.flush();
+
+        issueCounterService.issueUpdated(counterKeys, issue);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        publish(workspaceId, WorkspaceEvent.UPDATED, issue);
+        return issue;
+    }
+
+    @Transactional
+    public List<Issue> updateAll(Long workspaceId, IssueBulkUpdateDTO dto, User user) {
+        getWorkspaceById(workspaceId, user);
+        List<Issue> issues = getIssuesForUpdate(workspaceId,
+                dto.getIssues().stream().map(IssueBulkUpdateItemDTO::getId).toList());
+
+        Set<Long> projectIds = new HashSet<>();
+        dto.getIssues().forEach(item -> projectIds.add(item.getProjectId()));
+        issues.stream().filter(issue -> issue.getProject() != null)
+                .forEach(issue -> projectIds.add(issue.getProject().getId()));
+        Map<Long, Project> projects = getProjectsById(workspaceId, projectIds);
+
+        List<CounterKey> counterKeys = issues.stream().flatMap(issue -> IssueCounterService.keysOf(issue).stream())
+                .toList();
+        Map<Long, Issue> issuesById = issues.stream().collect(Collectors.toMap(Issue::getId, Function.identity()));
+        Map<Long, Set<String>> changes = new LinkedHashMap<>();
+        for (IssueBulkUpdateItemDTO item : dto.getIssues()) {
+            Issue issue = issuesById.get(item.getId());
+            Set<String> columns = changedColumns(issue, item);
+            issueMapper.updateIssueFromDTO(item, issue);
+            if (item.getProjectId() != null) {
+                issue.setProject(projects.get(item.getProjectId()));
+            }
+            changes.computeIfAbsent(issue.getId(), k -> new TreeSet<>()).addAll(columns);
+        }
+
+        // One JDBC batch per set of changed columns.
+        Map<Set<String>, List<Issue>> issuesByChange = new LinkedHashMap<>();
+        changes.forEach((id, columns) -> {
+            if (!columns.isEmpty()) {
+                issuesByChange.computeIfAbsent(columns, k -> new ArrayList<>()).add(issuesById.get(id));
+            }
+        });
+        issuesByChange.forEach((columns, changed) -> issueRepository.updateColumns(changed, columns));
+
+        issueCounterService.issuesUpdated(workspaceId, counterKeys, issues);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        issues.forEach(issue -> publish(workspaceId, WorkspaceEvent.UPDATED, issue));
+        return issues;
+    }
+
+    @Transactional
+    public void deleteAll(Long workspaceId, IssueBulkDeleteDTO dto, User user) {
+        getWorkspaceById(workspaceId, user);
+        List<Issue> issues = getIssuesForUpdate(workspaceId, dto.getIds());
+        List<Long> ids = issues.stream().map(Issue::getId).toList();
+        issueRepository.deleteAllByIdInBatch(ids);
+        syncService.recordDeleted(workspaceId, TombstoneType.ISSUE, ids);
+        issueCounterService.issuesDeleted(workspaceId, issues);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        issues.forEach(issue -> publish(workspaceId, WorkspaceEvent.DELETED, issue));
+    }
+
+    @Transactional
+    public void delete(Long workspaceId, Long id, User user) {
+        Issue issue = getIssueForUpdate(workspaceId, id, user);
         issueRepository.delete(issue);
+        syncService.recordDeleted(workspaceId, TombstoneType.ISSUE, List.of(id));
+        issueCounterService.issueDeleted(issue);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        publish(workspaceId, WorkspaceEvent.DELETED, issue);
     }
 }
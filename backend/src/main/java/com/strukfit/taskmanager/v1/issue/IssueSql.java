@@ -0,0 +1,60 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.strukfit.taskmanager.v1.issue.converter.PriorityConverter;
+import com.strukfit.taskmanager.v1.issue.converter.StatusConverter;
+import com.strukfit.taskmanager.v1.issue.dto.IssueFilter;
+
+import jakarta.persistence.Query;
+
+final class IssueSql {
+    static final StatusConverter statusConverter = new StatusConverter();
+    static final PriorityConverter priorityConverter = new PriorityConverter();
+
+    private IssueSql() {
+    }
+
+    static String from(IssueFilter filter, Map<String, Object> params, boolean joinProject) {
+        StringBuilder sql = new StringBuilder(" from issue i");
+        if (joinProject) {
+            sql.append(" left join project p on p.id = i.project_id");
+        }
+        sql.append(" where i.workspace_id = :workspaceId");
+
+        List<Long> projectIds = filter.getProjectIds();
+        if (projectIds != null && !projectIds.isEmpty()) {
+            List<String> projectPredicates = new ArrayList<>();
+            if (projectIds.contains(-1L)) {
+                projectPredicates.add("i.project_id is null");
+            }
+            List<Long> ids = projectIds.stream().filter(id -> id != -1).toList();
+            if (!ids.isEmpty()) {
+                projectPredicates.add("i.project_id in (:projectIds)");
+                params.put("projectIds", ids);
+            }
+            sql.append(" and (").append(String.join(" or ", projectPredicates)).append(")");
+        }
+
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            sql.append(" and i.status in (:statuses)");
+            params.put("statuses",
+                    filter.getStatuses().stream().map(statusConverter::convertToDatabaseColumn).toList());
+        }
+
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            sql.append(" and i.priority in (:priorities)");
+            params.put("priorities",
+                    filter.getPriorities().stream().map(priorityConverter::convertToDatabaseColumn).toList());
+        }
+
+        return sql.toString();
+    }
+
+    static void bind(Query query, Long workspaceId, Map<String, Object> params) {
+        query.setParameter("workspaceId", workspaceId);
+        params.forEach(query::setParameter);
+    }
+}
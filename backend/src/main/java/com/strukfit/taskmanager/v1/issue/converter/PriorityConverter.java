@@ -0,0 +1,19 @@
+package com.strukfit.taskmanager.v1.issue.converter;
+
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class PriorityConverter implements AttributeConverter<Priority, Short> {
+    @Override
+    public Short convertToDatabaseColumn(Priority priority) {
+        return priority != null ? (short) priority.ordinal() : null;
+    }
+
+    @Override
+    public Priority convertToEntityAttribute(Short value) {
+        return value != null ? Priority.values()[value] : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.strukfit.taskmanager.v1.issue.converter;
+
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class StatusConverter implements AttributeConverter<Status, Short> {
+    @Override
+    public Short convertToDatabaseColumn(Status status) {
+        return status != null ? (short) status.ordinal() : null;
+    }
+
+    @Override
+    public Status convertToEntityAttribute(Short value) {
+        return value != null ? Status.values()[value] : null;
+    }
+}
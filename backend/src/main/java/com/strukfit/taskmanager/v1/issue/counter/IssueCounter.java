@@ -0,0 +1,37 @@
+package com.strukfit.taskmanager.v1.issue.counter;
+
+import com.strukfit.taskmanager.v1.issue.enums.CounterDimension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+@Entity
+@Data
+@Table(name = "issue_counter", uniqueConstraints = @UniqueConstraint(name = "uk_issue_counter_key", columnNames = {
+        "workspace_id", "dimension", "group_key" }))
+public class IssueCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CounterDimension dimension;
+
+    @Column(name = "group_key", nullable = false)
+    private String groupKey;
+
+    @Column(name = "issue_count", nullable = false)
+    private long count;
+}
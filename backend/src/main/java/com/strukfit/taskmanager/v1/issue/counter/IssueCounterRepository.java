@@ -0,0 +1,51 @@
+package com.strukfit.taskmanager.v1.issue.counter;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.strukfit.taskmanager.v1.issue.enums.CounterDimension;
+
+public interface IssueCounterRepository extends JpaRepository<IssueCounter, Long> {
+    List<IssueCounter> findByWorkspaceId(Long workspaceId);
+
+    // Rows are locked in CounterKey order (dimension ordinal, then binary group key), the same order
+    // IssueCounterService.apply upserts them in.
+    @Query(value = "select * from issue_counter c where c.workspace_id = :workspaceId"
+            + " order by case c.dimension when 'STATUS' then 0 when 'PRIORITY' then 1 when 'PROJECT' then 2 end,"
+            + " c.group_key collate \"C\" for update", nativeQuery = true)
+    List<IssueCounter> findByWorkspaceIdForUpdate(@Param("workspaceId") Long workspaceId);
+
+    @Modifying
+    @Query(value = "insert into issue_counter (workspace_id, dimension, group_key, issue_count)"
+            + " values (:workspaceId, :dimension, :groupKey, :delta)"
+            + " on conflict (workspace_id, dimension, group_key)"
+            + " do update set issue_count = issue_counter.issue_count + excluded.issue_count", nativeQuery = true)
+    void increment(@Param("workspaceId") Long workspaceId, @Param("dimension") String dimension,
+            @Param("groupKey") String groupKey, @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from IssueCounter c where c.workspaceId = :workspaceId and c.dimension = :dimension"
+            + " and c.groupKey = :groupKey")
+    int deleteByKey(@Param("workspaceId") Long workspaceId, @Param("dimension") CounterDimension dimension,
+            @Param("groupKey") String groupKey);
+
+    @Modifying
+    @Query("delete from IssueCounter c where c.workspaceId = :workspaceId")
+    void deleteByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Query(value = "select i.status, count(*) from issue i where i.workspace_id = :workspaceId group by i.status",
+            nativeQuery = true)
+    List<Object[]> countIssuesByStatus(@Param("workspaceId") Long workspaceId);
+
+    @Query(value = "select i.priority, count(*) from issue i where i.workspace_id = :workspaceId"
+            + " group by i.priority", nativeQuery = true)
+    List<Object[]> countIssuesByPriority(@Param("workspaceId") Long workspaceId);
+
+    @Query(value = "select i.project_id, count(*) from issue i where i.workspace_id = :workspaceId"
+            + " group by i.project_id", nativeQuery = true)
+    List<Object[]> countIssuesByProject(@Param("workspaceId") Long workspaceId);
+}
@@ -0,0 +1,218 @@
+package com.strukfit.taskmanager.v1.issue.counter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.strukfit.taskmanager.v1.issue.Issue;
+import com.strukfit.taskmanager.v1.issue.converter.PriorityConverter;
+import com.strukfit.taskmanager.v1.issue.converter.StatusConverter;
+import com.strukfit.taskmanager.v1.issue.dto.IssueStatsDTO;
+import com.strukfit.taskmanager.v1.issue.enums.CounterDimension;
+import com.strukfit.taskmanager.v1.lease.JobLeaseService;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Service
+public class IssueCounterService {
+    public static final String NO_PROJECT_KEY = "-1";
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueCounterService.class);
+    private static final String LEASE_NAME = "issue-counter-repair";
+    private static final StatusConverter statusConverter = new StatusConverter();
+    private static final PriorityConverter priorityConverter = new PriorityConverter();
+
+    @Autowired
+    private IssueCounterRepository issueCounterRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.issue-counters.repair-interval:PT1H}")
+    private Duration repairInterval;
+
+    // Must match the lock order of IssueCounterRepository.findByWorkspaceIdForUpdate.
+    public record CounterKey(CounterDimension dimension, String groupKey) implements Comparable<CounterKey> {
+        private static final Comparator<CounterKey> ORDER = Comparator.comparing(CounterKey::dimension)
+                .thenComparing(CounterKey::groupKey);
+
+        @Override
+        public int compareTo(CounterKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    public static List<CounterKey> keysOf(Issue issue) {
+        String projectKey = issue.getProject() != null ? issue.getProject().getId().toString() : NO_PROJECT_KEY;
+        return List.of(
+                new CounterKey(CounterDimension.STATUS, issue.getStatus().name()),
+                new CounterKey(CounterDimension.PRIORITY, issue.getPriority().name()),
+                new CounterKey(CounterDimension.PROJECT, projectKey));
+    }
+
+    public void apply(Long workspaceId, Map<CounterKey, Long> deltas) {
+        // Keys are always incremented in the same order so concurrent writers cannot deadlock.
+        new TreeMap<>(deltas).forEach((key, delta) -> {
+            if (delta != 0) {
+                issueCounterRepository.increment(workspaceId, key.dimension().name(), key.groupKey(), delta);
+            }
+        });
+    }
+
+    public void issuesCreated(Long workspaceId, Collection<Issue> issues) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        issues.forEach(issue -> keysOf(issue).forEach(key -> deltas.merge(key, 1L, Long::sum)));
+        apply(workspaceId, deltas);
+    }
+
+    public void issuesUpdated(Long workspaceId, Collection<CounterKey> before, Collection<Issue> issues) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        before.forEach(key -> deltas.merge(key, -1L, Long::sum));
+        issues.forEach(issue -> keysOf(issue).forEach(key -> deltas.merge(key, 1L, Long::sum)));
+        apply(workspaceId, deltas);
+    }
+
+    public void issuesDeleted(Long workspaceId, Collection<Issue> issues) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        issues.forEach(issue -> keysOf(issue).forEach(key -> deltas.merge(key, -1L, Long::sum)));
+        apply(workspaceId, deltas);
+    }
+
+    public void issueCreated(Issue issue) {
+        issuesCreated(issue.getWorkspace().getId(), List.of(issue));
+    }
+
+    public void issueUpdated(List<CounterKey> before, Issue issue) {
+        issuesUpdated(issue.getWorkspace().getId(), before, List.of(issue));
+    }
+
+    public void issueDeleted(Issue issue) {
+        issuesDeleted(issue.getWorkspace().getId(), List.of(issue));
+    }
+
+    public void projectDeleted(Long workspaceId, Long projectId) {
+        String projectKey = projectId.toString();
+        long moved = issueCounterRepository.findByWorkspaceIdForUpdate(workspaceId).stream()
+                .filter(counter -> counter.getDimension() == CounterDimension.PROJECT
+                        && counter.getGroupKey().equals(projectKey))
+                .mapToLong(IssueCounter::getCount)
+                .sum();
+        issueCounterRepository.deleteByKey(workspaceId, CounterDimension.PROJECT, projectKey);
+        if (moved != 0) {
+            issueCounterRepository.increment(workspaceId, CounterDimension.PROJECT.name(), NO_PROJECT_KEY, moved);
+        }
+    }
+
+    public void workspaceDeleted(Long workspaceId) {
+        issueCounterRepository.deleteByWorkspaceId(workspaceId);
+    }
+
+    public IssueStatsDTO getStats(Long workspaceId) {
+        Map<CounterDimension, Map<String, Long>> counts = new EnumMap<>(CounterDimension.class);
+        for (CounterDimension dimension : CounterDimension.values()) {
+            counts.put(dimension, new TreeMap<>());
+        }
+        for (IssueCounter counter : issueCounterRepository.findByWorkspaceId(workspaceId)) {
+            if (counter.getCount() != 0) {
+                counts.get(counter.getDimension()).put(counter.getGroupKey(), counter.getCount());
+            }
+        }
+        long total = counts.get(CounterDimension.STATUS).values().stream().mapToLong(Long::longValue).sum();
+        return new IssueStatsDTO(total, counts.get(CounterDimension.STATUS), counts.get(CounterDimension.PRIORITY),
+                counts.get(CounterDimension.PROJECT));
+    }
+
+    private Map<CounterKey, Long> countIssues(Long workspaceId) {
+        Map<CounterKey, Long> expected = new HashMap<>();
+        for (Object[] row : issueCounterRepository.countIssuesByStatus(workspaceId)) {
+            String status = statusConverter.convertToEntityAttribute(((Number) row[0]).shortValue()).name();
+            expected.put(new CounterKey(CounterDimension.STATUS, status), ((Number) row[1]).longValue());
+        }
+        for (Object[] row : issueCounterRepository.countIssuesByPriority(workspaceId)) {
+            String priority = priorityConverter.convertToEntityAttribute(((Number) row[0]).shortValue()).name();
+            expected.put(new CounterKey(CounterDimension.PRIORITY, priority), ((Number) row[1]).longValue());
+        }
+        for (Object[] row : issueCounterRepository.countIssuesByProject(workspaceId)) {
+            String project = row[0] != null ? row[0].toString() : NO_PROJECT_KEY;
+            expected.put(new CounterKey(CounterDimension.PROJECT, project), ((Number) row[1]).longValue());
+        }
+        return expected;
+    }
+
+    public List<String> repair(Long workspaceId) {
+        List<String> drift = transactionTemplate.execute(status -> {
+            // Locking the counters first makes concurrent issue writes wait, so the recount below sees them.
+            Map<CounterKey, Long> actual = new HashMap<>();
+            for (IssueCounter counter : issueCounterRepository.findByWorkspaceIdForUpdate(workspaceId)) {
+                actual.put(new CounterKey(counter.getDimension(), counter.getGroupKey()), counter.getCount());
+            }
+            Map<CounterKey, Long> expected = countIssues(workspaceId);
+
+            Map<CounterKey, Long> deltas = new TreeMap<>();
+            expected.forEach((key, count) -> deltas.put(key, count - actual.getOrDefault(key, 0L)));
+            actual.forEach((key, count) -> deltas.putIfAbsent(key, -count));
+
+            List<String> changes = new ArrayList<>();
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) {
+                    changes.add(key.dimension() + ":" + key.groupKey() + " " + actual.getOrDefault(key, 0L)
+                            + " -> " + expected.getOrDefault(key, 0L));
+                }
+            });
+            apply(workspaceId, deltas);
+            return changes;
+        });
+
+        if (!drift.isEmpty()) {
+            logger.warn("Repaired {} drifted issue counters in workspace {}: {}", drift.size(), workspaceId, drift);
+            meterRegistry.counter("issue.counters.drift").increment(drift.size());
+        }
+        return drift;
+    }
+
+    @Scheduled(fixedDelayString = "${app.issue-counters.repair-interval:PT1H}")
+    public void repairAll() {
+        // The lease is held for a whole interval and not released, so one replica repairs per interval
+        // instead of every replica on every tick and on every startup.
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, repairInterval)) {
+            return;
+        }
+        long drifted = 0;
+        for (Long workspaceId : workspaceRepository.findAllIds()) {
+            try {
+                drifted += repair(workspaceId).size();
+            } catch (RuntimeException e) {
+                logger.error("Failed to repair issue counters for workspace {}", workspaceId, e);
+            }
+            if (!jobLeaseService.tryAcquire(LEASE_NAME, repairInterval)) {
+                logger.warn("Lost the issue counter repair lease, stopping early");
+                return;
+            }
+        }
+        logger.info("Issue counter repair finished with {} drifted counters", drifted);
+    }
+}
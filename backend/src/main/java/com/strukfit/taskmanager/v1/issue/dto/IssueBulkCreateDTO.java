@@ -0,0 +1,15 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class IssueBulkCreateDTO {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid IssueCreateDTO> issues;
+}
@@ -0,0 +1,12 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class IssueBulkUpdateItemDTO extends IssueUpdateDTO {
+    @NotNull
+    private Long id;
+}
@@ -14,4 +14,7 @@ public class IssueDTO {
     private Priority priority;
     private Status status;
     private ProjectDTO project;
+    private String createdAt;
+    private String updatedAt;
+    private Long version;
 }
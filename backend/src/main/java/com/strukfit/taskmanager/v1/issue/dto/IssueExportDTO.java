@@ -0,0 +1,10 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class IssueExportDTO {
+    @Pattern(regexp = "ndjson|csv")
+    private String format = "ndjson";
+}
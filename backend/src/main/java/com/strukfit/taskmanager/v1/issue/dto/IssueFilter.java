@@ -0,0 +1,14 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import java.util.List;
+
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+public interface IssueFilter {
+    List<Long> getProjectIds();
+
+    List<Status> getStatuses();
+
+    List<Priority> getPriorities();
+}
@@ -0,0 +1,21 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import java.util.List;
+
+import com.strukfit.taskmanager.v1.issue.enums.ImportStatus;
+
+import lombok.Data;
+
+@Data
+public class IssueImportDTO {
+    private Long id;
+    private String format;
+    private ImportStatus status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private String errorMessage;
+    private String createdAt;
+    private String finishedAt;
+    private List<IssueImportErrorDTO> errors;
+}
@@ -0,0 +1,11 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class IssueImportErrorDTO {
+    private long row;
+    private String message;
+}
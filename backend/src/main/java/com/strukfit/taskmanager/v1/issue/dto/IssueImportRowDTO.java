@@ -0,0 +1,20 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class IssueImportRowDTO {
+    @NotBlank
+    @Size(max = 60)
+    private String title;
+
+    @Size(max = 2000)
+    private String description;
+
+    private String status;
+    private String priority;
+    private String project;
+    private String createdAt;
+}
@@ -0,0 +1,14 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class IssuePageDTO {
+    private List<IssueDTO> items;
+    private String nextCursor;
+    private long total;
+}
@@ -0,0 +1,27 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class IssuePatchDTO {
+    @NotBlank
+    @Size(max = 60)
+    private String title;
+
+    @Size(max = 2000)
+    private String description;
+
+    @NotNull
+    private Priority priority;
+
+    @NotNull
+    private Status status;
+
+    private Long projectId;
+}
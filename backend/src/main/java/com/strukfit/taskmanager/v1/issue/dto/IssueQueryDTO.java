@@ -2,16 +2,19 @@ package com.strukfit.taskmanager.v1.issue.dto;
 
 import java.util.List;
 
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
 import com.strukfit.taskmanager.v1.issue.enums.Status;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Data
-public class IssueQueryDTO {
+public class IssueQueryDTO implements IssueFilter {
     private List<Long> projectIds;
     private List<Status> statuses;
-    private List<String> priorities;
+    private List<Priority> priorities;
 
     @Pattern(regexp = "title|status|priority|createdAt")
     private String sortBy = "createdAt";
@@ -21,4 +24,10 @@ public class IssueQueryDTO {
 
     @Pattern(regexp = "status|priority|project|none")
     private String groupBy = "status";
+
+    private String cursor;
+
+    @Min(1)
+    @Max(200)
+    private Integer limit = 50;
 }
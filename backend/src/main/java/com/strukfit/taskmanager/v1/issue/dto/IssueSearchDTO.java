@@ -0,0 +1,30 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import java.util.List;
+
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class IssueSearchDTO implements IssueFilter {
+    @NotBlank
+    @Size(max = 200)
+    private String q;
+
+    private List<Long> projectIds;
+    private List<Status> statuses;
+    private List<Priority> priorities;
+
+    @Min(0)
+    private Integer page = 0;
+
+    @Min(1)
+    @Max(100)
+    private Integer size = 20;
+}
@@ -0,0 +1,15 @@
+package com.strukfit.taskmanager.v1.issue.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class IssueStatsDTO {
+    private long total;
+    private Map<String, Long> statuses;
+    private Map<String, Long> priorities;
+    private Map<String, Long> projects;
+}
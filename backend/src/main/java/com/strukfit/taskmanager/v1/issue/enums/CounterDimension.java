@@ -0,0 +1,5 @@
+package com.strukfit.taskmanager.v1.issue.enums;
+
+public enum CounterDimension {
+    STATUS, PRIORITY, PROJECT
+}
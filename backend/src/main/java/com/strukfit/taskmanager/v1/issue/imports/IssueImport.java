@@ -0,0 +1,56 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.strukfit.taskmanager.v1.issue.enums.ImportStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Data
+@Table(name = "issue_import", indexes = { @Index(name = "idx_issue_import_workspace", columnList = "workspace_id") })
+public class IssueImport {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_import_seq")
+    @SequenceGenerator(name = "issue_import_seq", sequenceName = "issue_import_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Column(nullable = false, length = 16)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportStatus status = ImportStatus.PENDING;
+
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @UpdateTimestamp
+    @ColumnDefault("localtimestamp")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+}
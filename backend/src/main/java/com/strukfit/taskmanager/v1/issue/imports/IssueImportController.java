@@ -0,0 +1,43 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.strukfit.taskmanager.common.dto.ApiResponse;
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportDTO;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.utils.SecurityUtils;
+
+@RestController
+@RequestMapping("/workspaces/{workspaceId}/issues/imports")
+public class IssueImportController {
+    @Autowired
+    private IssueImportService issueImportService;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<IssueImportDTO>> start(@PathVariable Long workspaceId,
+            @RequestParam(defaultValue = "csv") String format, InputStream body) {
+        User user = securityUtils.getCurrentUser();
+        IssueImportDTO issueImport = issueImportService.start(workspaceId, format, body, user);
+        return ResponseEntity.status(202).body(ApiResponse.success(issueImport));
+    }
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<ApiResponse<IssueImportDTO>> getById(@PathVariable Long workspaceId,
+            @PathVariable Long importId) {
+        User user = securityUtils.getCurrentUser();
+        IssueImportDTO issueImport = issueImportService.getById(workspaceId, importId, user);
+        return ResponseEntity.ok(ApiResponse.success(issueImport));
+    }
+}
@@ -0,0 +1,35 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "issue_import_error", indexes = {
+        @Index(name = "idx_issue_import_error_import", columnList = "import_id,row_number") })
+public class IssueImportError {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_import_error_seq")
+    @SequenceGenerator(name = "issue_import_error_seq", sequenceName = "issue_import_error_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false)
+    private Long importId;
+
+    @Column(name = "row_number", nullable = false)
+    private long rowNumber;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+}
@@ -0,0 +1,9 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IssueImportErrorRepository extends JpaRepository<IssueImportError, Long> {
+    List<IssueImportError> findTop100ByImportIdOrderByRowNumberAsc(Long importId);
+}
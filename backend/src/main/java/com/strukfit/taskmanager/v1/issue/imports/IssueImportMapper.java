@@ -0,0 +1,13 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportDTO;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface IssueImportMapper {
+    @Mapping(target = "errors", ignore = true)
+    IssueImportDTO toDTO(IssueImport issueImport);
+}
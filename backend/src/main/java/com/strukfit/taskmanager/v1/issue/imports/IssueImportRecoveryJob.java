@@ -0,0 +1,67 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.strukfit.taskmanager.v1.issue.enums.ImportStatus;
+import com.strukfit.taskmanager.v1.lease.JobLeaseService;
+
+/**
+ * Fails imports whose runner died with the instance that ran them, and drops staging rows no running import
+ * owns. A running import touches its row after every batch, so only imports silent for longer than
+ * app.issue-import.stale-after are treated as lost. The first run happens at startup.
+ */
+@Component
+public class IssueImportRecoveryJob {
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportRecoveryJob.class);
+
+    private static final String LEASE_NAME = "issue-import-recovery";
+
+    @Autowired
+    private IssueImportRepository issueImportRepository;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.issue-import.stale-after:PT1H}")
+    private Duration staleAfter;
+
+    @Value("${app.issue-import.recovery-interval:PT10M}")
+    private Duration interval;
+
+    @Scheduled(fixedDelayString = "${app.issue-import.recovery-interval:PT10M}")
+    public void recoverStaleImports() {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, interval)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<IssueImport> stale = issueImportRepository.findByStatusInAndUpdatedAtBefore(
+                List.of(ImportStatus.PENDING, ImportStatus.RUNNING), now.minus(staleAfter));
+        for (IssueImport issueImport : stale) {
+            issueImport.setStatus(ImportStatus.FAILED);
+            issueImport.setErrorMessage("Import was interrupted");
+            issueImport.setFinishedAt(now);
+            issueImportRepository.save(issueImport);
+            logger.warn("Marked interrupted issue import {} as failed", issueImport.getId());
+        }
+
+        int deleted = jdbcTemplate.update("delete from issue_import_staging s where not exists"
+                + " (select 1 from issue_import i where i.id = s.import_id and i.status in ('PENDING', 'RUNNING'))");
+        if (deleted > 0) {
+            logger.info("Deleted {} orphaned issue import staging rows", deleted);
+        }
+    }
+}
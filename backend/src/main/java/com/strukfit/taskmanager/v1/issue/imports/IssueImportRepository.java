@@ -0,0 +1,13 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.strukfit.taskmanager.v1.issue.enums.ImportStatus;
+
+public interface IssueImportRepository extends JpaRepository<IssueImport, Long> {
+    List<IssueImport> findByStatusInAndUpdatedAtBefore(Collection<ImportStatus> statuses, LocalDateTime updatedAt);
+}
@@ -0,0 +1,360 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.issue.Issue;
+import com.strukfit.taskmanager.v1.issue.converter.PriorityConverter;
+import com.strukfit.taskmanager.v1.issue.converter.StatusConverter;
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService;
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService.CounterKey;
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportRowDTO;
+import com.strukfit.taskmanager.v1.issue.enums.CounterDimension;
+import com.strukfit.taskmanager.v1.issue.enums.ImportStatus;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+import com.strukfit.taskmanager.v1.project.ProjectRepository;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Component
+public class IssueImportRunner {
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportRunner.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_STORED_ERRORS = 1000;
+    private static final String COPY_SQL = "COPY issue_import_staging"
+            + " (import_id, id, title, description, priority, status, project_id, created_at) FROM STDIN (FORMAT csv)";
+    private static final StatusConverter statusConverter = new StatusConverter();
+    private static final PriorityConverter priorityConverter = new PriorityConverter();
+    private static final CsvMapper csvMapper = CsvMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .build();
+
+    @Autowired
+    private IssueImportRepository issueImportRepository;
+
+    @Autowired
+    private IssueImportErrorRepository issueImportErrorRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    private record StagedRow(String title, String description, short priority, short status, Long projectId,
+            LocalDateTime createdAt) {
+    }
+
+    // A record Jackson could not map, such as a CSV line with too many columns or an NDJSON field of the wrong
+    // type, carries the error instead of a row.
+    private record ReadRow(IssueImportRowDTO row, String error) {
+    }
+
+    private static class RowException extends RuntimeException {
+        RowException(String message) {
+            super(message);
+        }
+    }
+
+    private ObjectReader reader(String format) {
+        if ("csv".equals(format)) {
+            return csvMapper.readerFor(IssueImportRowDTO.class).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(IssueImportRowDTO.class);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E defaultValue, String field) {
+        if (isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new RowException("Unknown " + field + " '" + value + "'");
+        }
+    }
+
+    private static LocalDateTime parseCreatedAt(String value) {
+        if (isBlank(value)) {
+            return LocalDateTime.now();
+        }
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new RowException("Invalid createdAt '" + value + "'");
+        }
+    }
+
+    private StagedRow toStagedRow(IssueImportRowDTO row, Map<String, Long> projectIds) {
+        Set<ConstraintViolation<IssueImportRowDTO>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new RowException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        Long projectId = null;
+        if (!isBlank(row.getProject())) {
+            projectId = projectIds.get(row.getProject().trim());
+            if (projectId == null) {
+                throw new RowException("Project '" + row.getProject() + "' not found");
+            }
+        }
+
+        return new StagedRow(
+                row.getTitle().trim(),
+                isBlank(row.getDescription()) ? null : row.getDescription(),
+                priorityConverter.convertToDatabaseColumn(
+                        parseEnum(Priority.class, row.getPriority(), Priority.NONE, "priority")),
+                statusConverter.convertToDatabaseColumn(
+                        parseEnum(Status.class, row.getStatus(), Status.BACKLOG, "status")),
+                projectId,
+                parseCreatedAt(row.getCreatedAt()));
+    }
+
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            int blocks = (count - filled + Issue.ID_ALLOCATION_SIZE - 1) / Issue.ID_ALLOCATION_SIZE;
+            List<Long> highs = jdbcTemplate.queryForList(
+                    "select nextval('issue_seq') from generate_series(1, ?)", Long.class, blocks);
+            for (long high : highs) {
+                for (long id = Math.max(1, high - Issue.ID_ALLOCATION_SIZE + 1); id <= high && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.toString().replace("\"", "\"\"") + '"';
+    }
+
+    private void copy(Long importId, List<StagedRow> rows) throws SQLException, IOException {
+        long[] ids = allocateIds(rows.size());
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < rows.size(); i++) {
+            StagedRow row = rows.get(i);
+            payload.append(importId).append(',')
+                    .append(ids[i]).append(',')
+                    .append(csv(row.title())).append(',')
+                    .append(row.description() != null ? csv(row.description()) : "").append(',')
+                    .append(row.priority()).append(',')
+                    .append(row.status()).append(',')
+                    .append(row.projectId() != null ? row.projectId() : "").append(',')
+                    .append(row.createdAt())
+                    .append('\n');
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(payload.toString()));
+        }
+    }
+
+    private IssueImport stage(IssueImport issueImport, List<ReadRow> batch, long firstRow)
+            throws SQLException, IOException {
+        Set<String> projectNames = batch.stream()
+                .filter(read -> read.row() != null)
+                .map(read -> read.row().getProject())
+                .filter(name -> !isBlank(name))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        Map<String, Long> projectIds = new HashMap<>();
+        if (!projectNames.isEmpty()) {
+            projectRepository.findByWorkspaceIdAndNameInOrderByIdAsc(issueImport.getWorkspaceId(), projectNames)
+                    .forEach(project -> projectIds.putIfAbsent(project.getName(), project.getId()));
+        }
+
+        List<StagedRow> rows = new ArrayList<>(batch.size());
+        List<IssueImportError> errors = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ReadRow read = batch.get(i);
+            try {
+                if (read.error() != null) {
+                    throw new RowException(read.error());
+                }
+                rows.add(toStagedRow(read.row(), projectIds));
+            } catch (RowException e) {
+                errors.add(new IssueImportError(null, issueImport.getId(), firstRow + i, truncate(e.getMessage())));
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            copy(issueImport.getId(), rows);
+        }
+        long storedErrors = Math.min(issueImport.getFailedRows(), MAX_STORED_ERRORS);
+        if (!errors.isEmpty() && storedErrors < MAX_STORED_ERRORS) {
+            issueImportErrorRepository.saveAll(errors.subList(0,
+                    (int) Math.min(errors.size(), MAX_STORED_ERRORS - storedErrors)));
+        }
+
+        issueImport.setProcessedRows(issueImport.getProcessedRows() + batch.size());
+        issueImport.setImportedRows(issueImport.getImportedRows() + rows.size());
+        issueImport.setFailedRows(issueImport.getFailedRows() + errors.size());
+        return issueImportRepository.save(issueImport);
+    }
+
+    private void merge(IssueImport issueImport) {
+        Long workspaceId = issueImport.getWorkspaceId();
+        transactionTemplate.executeWithoutResult(transaction -> {
+            long inserted = jdbcTemplate.update("insert into issue"
+                    + " (id, title, description, priority, status, project_id, workspace_id, created_at)"
+                    + " select s.id, s.title, s.description, s.priority, s.status, p.id, ?, s.created_at"
+                    + " from issue_import_staging s"
+                    + " left join project p on p.id = s.project_id and p.workspace_id = ?"
+                    + " where s.import_id = ?", workspaceId, workspaceId, issueImport.getId());
+
+            Map<CounterKey, Long> deltas = new HashMap<>();
+            jdbcTemplate.query("select s.status, s.priority, p.id, count(*)"
+                    + " from issue_import_staging s"
+                    + " left join project p on p.id = s.project_id and p.workspace_id = ?"
+                    + " where s.import_id = ? group by s.status, s.priority, p.id",
+                    rs -> {
+                        long count = rs.getLong(4);
+                        String status = statusConverter.convertToEntityAttribute(rs.getShort(1)).name();
+                        String priority = priorityConverter.convertToEntityAttribute(rs.getShort(2)).name();
+                        long projectId = rs.getLong(3);
+                        String project = rs.wasNull() ? IssueCounterService.NO_PROJECT_KEY : Long.toString(projectId);
+                        deltas.merge(new CounterKey(CounterDimension.STATUS, status), count, Long::sum);
+                        deltas.merge(new CounterKey(CounterDimension.PRIORITY, priority), count, Long::sum);
+                        deltas.merge(new CounterKey(CounterDimension.PROJECT, project), count, Long::sum);
+                    }, workspaceId, issueImport.getId());
+            issueCounterService.apply(workspaceId, deltas);
+            workspaceRepository.incrementContentVersion(workspaceId);
+            applicationEventPublisher.publishEvent(new WorkspaceEvent(workspaceId, WorkspaceEvent.IMPORT,
+                    WorkspaceEvent.COMPLETED, issueImport.getId(), null));
+
+            jdbcTemplate.update("delete from issue_import_staging where import_id = ?", issueImport.getId());
+            issueImport.setImportedRows(inserted);
+        });
+    }
+
+    private static void deleteUpload(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete import upload {}", file, e);
+        }
+    }
+
+    @Async
+    public void run(Long importId, Path file) {
+        IssueImport issueImport = issueImportRepository.findById(importId)
+                .orElseThrow(() -> new RuntimeException("Import not found"));
+        if (issueImport.getStatus() != ImportStatus.PENDING) {
+            logger.warn("Skipping issue import {} in status {}", importId, issueImport.getStatus());
+            deleteUpload(file);
+            return;
+        }
+        issueImport.setStatus(ImportStatus.RUNNING);
+        issueImport = issueImportRepository.save(issueImport);
+
+        try (InputStream input = Files.newInputStream(file);
+                MappingIterator<IssueImportRowDTO> rows = reader(issueImport.getFormat()).readValues(input)) {
+            List<ReadRow> batch = new ArrayList<>(BATCH_SIZE);
+            long firstRow = 1;
+            while (rows.hasNextValue()) {
+                // The iterator skips to the end of a record it failed to map. Syntax errors leave no record
+                // boundary to resume from, so those still fail the import.
+                try {
+                    batch.add(new ReadRow(rows.nextValue(), null));
+                } catch (JsonMappingException e) {
+                    batch.add(new ReadRow(null, "Invalid record: " + e.getOriginalMessage()));
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    issueImport = stage(issueImport, batch, firstRow);
+                    firstRow += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                issueImport = stage(issueImport, batch, firstRow);
+            }
+
+            merge(issueImport);
+            issueImport.setStatus(ImportStatus.COMPLETED);
+        } catch (Exception e) {
+            logger.warn("Issue import {} failed", importId, e);
+            jdbcTemplate.update("delete from issue_import_staging where import_id = ?", importId);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            issueImport.setStatus(ImportStatus.FAILED);
+            issueImport.setErrorMessage(truncate(message));
+        } finally {
+            issueImport.setFinishedAt(LocalDateTime.now());
+            issueImportRepository.save(issueImport);
+            deleteUpload(file);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.strukfit.taskmanager.exception.PayloadTooLargeException;
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportErrorDTO;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceAuthorizer;
+
+@Service
+public class IssueImportService {
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportService.class);
+
+    @Autowired
+    private IssueImportRepository issueImportRepository;
+
+    @Autowired
+    private IssueImportErrorRepository issueImportErrorRepository;
+
+    @Autowired
+    private IssueImportRunner issueImportRunner;
+
+    @Autowired
+    private IssueImportMapper issueImportMapper;
+
+    @Autowired
+    private WorkspaceAuthorizer workspaceAuthorizer;
+
+    @Value("${app.issue-import.max-size:50MB}")
+    private DataSize maxSize;
+
+    private void copy(InputStream body, Path file) throws IOException {
+        long limit = maxSize.toBytes();
+        long copied = 0;
+        byte[] buffer = new byte[8192];
+        try (OutputStream output = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                copied += read;
+                if (copied > limit) {
+                    throw new PayloadTooLargeException("Import upload exceeds " + (maxSize.toMegabytes() > 0
+                            ? maxSize.toMegabytes() + " MB"
+                            : maxSize.toKilobytes() + " KB"));
+                }
+                output.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete import upload {}", file, e);
+        }
+    }
+
+    public IssueImportDTO start(Long workspaceId, String format, InputStream body, User user) {
+        workspaceAuthorizer.checkAccess(workspaceId, user);
+        if (!"csv".equals(format) && !"ndjson".equals(format)) {
+            throw new RuntimeException("Unsupported import format");
+        }
+
+        Path file;
+        try {
+            file = Files.createTempFile("issue-import-", "." + format);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import upload", e);
+        }
+        try {
+            copy(body, file);
+        } catch (IOException e) {
+            delete(file);
+            throw new RuntimeException("Failed to read import upload", e);
+        } catch (RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+
+        IssueImport issueImport = new IssueImport();
+        issueImport.setWorkspaceId(workspaceId);
+        issueImport.setFormat(format);
+        issueImport = issueImportRepository.save(issueImport);
+        issueImportRunner.run(issueImport.getId(), file);
+        return issueImportMapper.toDTO(issueImport);
+    }
+
+    public IssueImportDTO getById(Long workspaceId, Long importId, User user) {
+        workspaceAuthorizer.checkAccess(workspaceId, user);
+        IssueImport issueImport = issueImportRepository.findById(importId)
+                .orElseThrow(() -> new RuntimeException("Import not found"));
+        if (!issueImport.getWorkspaceId().equals(workspaceId)) {
+            throw new RuntimeException("Import does not belong to workspace");
+        }
+
+        IssueImportDTO dto = issueImportMapper.toDTO(issueImport);
+        dto.setErrors(issueImportErrorRepository.findTop100ByImportIdOrderByRowNumberAsc(importId).stream()
+                .map(error -> new IssueImportErrorDTO(error.getRowNumber(), error.getMessage()))
+                .toList());
+        return dto;
+    }
+}
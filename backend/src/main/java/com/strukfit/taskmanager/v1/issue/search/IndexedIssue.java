@@ -0,0 +1,19 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class IndexedIssue {
+    private Long id;
+    private String title;
+    private String description;
+    private Status status;
+    private Priority priority;
+    private Long projectId;
+    private Long version;
+}
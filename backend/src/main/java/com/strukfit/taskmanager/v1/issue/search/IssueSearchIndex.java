@@ -0,0 +1,165 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.issue.IssueRepository;
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+
+@Component
+public class IssueSearchIndex {
+    private final Map<Long, SoftReference<WorkspaceIndex>> indexes = new ConcurrentHashMap<>();
+    private final Map<Long, Build> builds = new ConcurrentHashMap<>();
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    // Writes that arrive while an index is loading are queued here and replayed before it is published.
+    private static class Build {
+        private final CompletableFuture<WorkspaceIndex> result = new CompletableFuture<>();
+        private final List<Consumer<WorkspaceIndex>> pending = new ArrayList<>();
+        private boolean finished;
+        private boolean evicted;
+
+        synchronized boolean offer(Consumer<WorkspaceIndex> action) {
+            if (finished) {
+                return false;
+            }
+            pending.add(action);
+            return true;
+        }
+
+        synchronized void evict() {
+            evicted = true;
+        }
+    }
+
+    private WorkspaceIndex getIndex(Long workspaceId) {
+        SoftReference<WorkspaceIndex> current = indexes.get(workspaceId);
+        WorkspaceIndex index = current != null ? current.get() : null;
+        if (index != null) {
+            return index;
+        }
+
+        Build build = new Build();
+        Build running = builds.putIfAbsent(workspaceId, build);
+        if (running != null) {
+            try {
+                return running.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            WorkspaceIndex built = new WorkspaceIndex();
+            built.addAll(issueRepository.findIndexedByWorkspaceId(workspaceId));
+            synchronized (build) {
+                build.pending.forEach(action -> action.accept(built));
+                build.pending.clear();
+                if (!build.evicted) {
+                    indexes.put(workspaceId, new SoftReference<>(built));
+                }
+                build.finished = true;
+            }
+            builds.remove(workspaceId, build);
+            build.result.complete(built);
+            return built;
+        } catch (RuntimeException e) {
+            synchronized (build) {
+                build.finished = true;
+            }
+            builds.remove(workspaceId, build);
+            build.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void update(Long workspaceId, Consumer<WorkspaceIndex> action) {
+        Build build = builds.get(workspaceId);
+        if (build != null && build.offer(action)) {
+            return;
+        }
+        indexes.computeIfPresent(workspaceId, (id, current) -> {
+            WorkspaceIndex index = current.get();
+            if (index == null) {
+                return null;
+            }
+            action.accept(index);
+            return index.isFragmented() ? null : current;
+        });
+    }
+
+    private boolean isLoaded(Long workspaceId) {
+        return indexes.containsKey(workspaceId) || builds.containsKey(workspaceId);
+    }
+
+    public Page<Long> search(Long workspaceId, IssueSearchDTO dto) {
+        Pageable pageable = PageRequest.of(dto.getPage(), dto.getSize());
+        WorkspaceIndex.Result result = getIndex(workspaceId)
+                .search(dto.getQ(), dto, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.issueIds(), pageable, result.total());
+    }
+
+    public void refresh(Long workspaceId, Long issueId) {
+        if (!isLoaded(workspaceId)) {
+            return;
+        }
+        Optional<IndexedIssue> issue = issueRepository.findIndexedById(issueId);
+        update(workspaceId, index -> issue.ifPresentOrElse(index::upsert, () -> index.remove(issueId)));
+    }
+
+    public void remove(Long workspaceId, Long issueId) {
+        update(workspaceId, index -> index.remove(issueId));
+    }
+
+    public void evict(Long workspaceId) {
+        Build build = builds.remove(workspaceId);
+        if (build != null) {
+            build.evict();
+        }
+        indexes.remove(workspaceId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkspaceEvent(WorkspaceEvent event) {
+        switch (event.type()) {
+            case WorkspaceEvent.ISSUE -> {
+                if (WorkspaceEvent.DELETED.equals(event.action())) {
+                    remove(event.workspaceId(), event.id());
+                } else {
+                    refresh(event.workspaceId(), event.id());
+                }
+            }
+            case WorkspaceEvent.PROJECT -> {
+                if (WorkspaceEvent.DELETED.equals(event.action())) {
+                    evict(event.workspaceId());
+                }
+            }
+            case WorkspaceEvent.WORKSPACE -> {
+                if (WorkspaceEvent.DELETED.equals(event.action())) {
+                    evict(event.workspaceId());
+                }
+            }
+            case WorkspaceEvent.IMPORT -> evict(event.workspaceId());
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import java.util.Arrays;
+
+class PostingList {
+    private int[] docs = new int[4];
+    private int[] weights = new int[4];
+    private int size;
+
+    void add(int doc, int weight) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            weights = Arrays.copyOf(weights, size * 2);
+        }
+        docs[size] = doc;
+        weights[size] = weight;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int i) {
+        return docs[i];
+    }
+
+    int weight(int i) {
+        return weights[i];
+    }
+}
@@ -0,0 +1,270 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueFilter;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+class WorkspaceIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+    private static final long NO_PROJECT = -1;
+    private static final int MAX_SPARE_SCRATCH = Runtime.getRuntime().availableProcessors();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, PostingList> terms = new TreeMap<>();
+    private final Map<Long, Integer> docsByIssueId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final Set<Long> removedIssueIds = new HashSet<>();
+    private final Queue<Scratch> spareScratch = new ArrayBlockingQueue<>(MAX_SPARE_SCRATCH);
+
+    private long[] issueIds = new long[16];
+    private long[] projectIds = new long[16];
+    private long[] versions = new long[16];
+    private byte[] statuses = new byte[16];
+    private byte[] priorities = new byte[16];
+    private int docCount;
+
+    record Result(List<Long> issueIds, long total) {
+    }
+
+    // Per-document match state for one search, kept between searches so a query does not allocate in proportion
+    // to the workspace. Only candidate documents are ever written, and search zeroes them before handing it back.
+    private static final class Scratch {
+        private final int[] hits;
+        private final int[] scores;
+
+        Scratch(int size) {
+            hits = new int[size];
+            scores = new int[size];
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean tokenChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    void addAll(Collection<IndexedIssue> issues) {
+        lock.writeLock().lock();
+        try {
+            issues.forEach(this::append);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Snapshots are read outside any ordering, so one read before a later write or a removal can arrive last.
+    // Ids are never reused, so a removed issue stays out until the index is rebuilt.
+    void upsert(IndexedIssue issue) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByIssueId.get(issue.getId());
+            if (removedIssueIds.contains(issue.getId()) || doc != null && versions[doc] >= issue.getVersion()) {
+                return;
+            }
+            markDeleted(issue.getId());
+            append(issue);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long issueId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(issueId);
+            removedIssueIds.add(issueId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean isFragmented() {
+        lock.readLock().lock();
+        try {
+            int deletedCount = deleted.cardinality();
+            return deletedCount >= MIN_COMPACTION_SIZE && deletedCount > docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Result search(String query, IssueFilter filter, long offset, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Collection<PostingList>> postings = new ArrayList<>();
+            for (int t = 0; t < queryTerms.size(); t++) {
+                Collection<PostingList> termPostings = postings(queryTerms.get(t), t == queryTerms.size() - 1);
+                if (termPostings.isEmpty()) {
+                    return new Result(List.of(), 0);
+                }
+                postings.add(termPostings);
+            }
+            postings.sort(Comparator.comparingLong(WorkspaceIndex::size));
+
+            Scratch scratch = spareScratch.poll();
+            if (scratch == null || scratch.hits.length < docCount) {
+                scratch = new Scratch(issueIds.length);
+            }
+            int[] hits = scratch.hits;
+            int[] scores = scratch.scores;
+            int[] candidates = new int[(int) Math.min(size(postings.get(0)), docCount)];
+            int candidateCount = 0;
+            for (int t = 0; t < postings.size(); t++) {
+                for (PostingList posting : postings.get(t)) {
+                    for (int i = 0; i < posting.size(); i++) {
+                        int doc = posting.doc(i);
+                        if (hits[doc] == t) {
+                            hits[doc] = t + 1;
+                            scores[doc] += posting.weight(i);
+                            if (t == 0) {
+                                candidates[candidateCount++] = doc;
+                            }
+                        } else if (hits[doc] == t + 1) {
+                            scores[doc] += posting.weight(i);
+                        }
+                    }
+                }
+            }
+
+            DocFilter docFilter = new DocFilter(filter);
+            long[] matches = new long[candidateCount];
+            int matchCount = 0;
+            for (int c = 0; c < candidateCount; c++) {
+                int doc = candidates[c];
+                if (hits[doc] == postings.size() && !deleted.get(doc) && docFilter.test(doc)) {
+                    matches[matchCount++] = ((long) scores[doc] << 32) | doc;
+                }
+            }
+            for (int c = 0; c < candidateCount; c++) {
+                hits[candidates[c]] = 0;
+                scores[candidates[c]] = 0;
+            }
+            spareScratch.offer(scratch);
+            Arrays.sort(matches, 0, matchCount);
+
+            List<Long> page = new ArrayList<>();
+            for (long i = matchCount - 1 - offset; i >= 0 && page.size() < limit; i--) {
+                page.add(issueIds[(int) matches[(int) i]]);
+            }
+            return new Result(page, matchCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long size(Collection<PostingList> postings) {
+        long size = 0;
+        for (PostingList posting : postings) {
+            size += posting.size();
+        }
+        return size;
+    }
+
+    private Collection<PostingList> postings(String term, boolean prefix) {
+        if (prefix) {
+            return terms.subMap(term, true, term + Character.MAX_VALUE, true).values();
+        }
+        PostingList posting = terms.get(term);
+        return posting != null ? List.of(posting) : List.of();
+    }
+
+    private static boolean[] mask(List<? extends Enum<?>> values, int size) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[size];
+        values.forEach(value -> mask[value.ordinal()] = true);
+        return mask;
+    }
+
+    private void markDeleted(Long issueId) {
+        Integer doc = docsByIssueId.remove(issueId);
+        if (doc != null) {
+            deleted.set(doc);
+        }
+    }
+
+    private void append(IndexedIssue issue) {
+        if (docCount == issueIds.length) {
+            int capacity = docCount * 2;
+            issueIds = Arrays.copyOf(issueIds, capacity);
+            projectIds = Arrays.copyOf(projectIds, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+        }
+
+        int doc = docCount++;
+        issueIds[doc] = issue.getId();
+        projectIds[doc] = issue.getProjectId() != null ? issue.getProjectId() : NO_PROJECT;
+        versions[doc] = issue.getVersion();
+        statuses[doc] = (byte) issue.getStatus().ordinal();
+        priorities[doc] = (byte) issue.getPriority().ordinal();
+        docsByIssueId.put(issue.getId(), doc);
+
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(issue.getTitle()).forEach(token -> weights.merge(token, TITLE_WEIGHT, Integer::sum));
+        tokenize(issue.getDescription()).forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+        weights.forEach((token, weight) -> terms.computeIfAbsent(token, k -> new PostingList()).add(doc, weight));
+    }
+
+    private class DocFilter {
+        private final Set<Long> projects;
+        private final boolean[] statusMask;
+        private final boolean[] priorityMask;
+
+        DocFilter(IssueFilter filter) {
+            projects = filter.getProjectIds() != null && !filter.getProjectIds().isEmpty()
+                    ? new HashSet<>(filter.getProjectIds())
+                    : null;
+            statusMask = mask(filter.getStatuses(), Status.values().length);
+            priorityMask = mask(filter.getPriorities(), Priority.values().length);
+        }
+
+        boolean test(int doc) {
+            return (projects == null || projects.contains(projectIds[doc]))
+                    && (statusMask == null || statusMask[statuses[doc]])
+                    && (priorityMask == null || priorityMask[priorities[doc]]);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.strukfit.taskmanager.v1.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    @Transactional
+    @Modifying
+    @Query(value = "insert into job_lease (name, owner, expires_at)"
+            + " values (:name, :owner, localtimestamp + make_interval(secs => :seconds))"
+            + " on conflict (name) do update set owner = excluded.owner, expires_at = excluded.expires_at"
+            + " where job_lease.expires_at < localtimestamp or job_lease.owner = excluded.owner",
+            nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("seconds") double seconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update job_lease set expires_at = localtimestamp where name = :name and owner = :owner",
+            nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
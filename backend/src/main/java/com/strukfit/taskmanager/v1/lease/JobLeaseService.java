@@ -0,0 +1,25 @@
+package com.strukfit.taskmanager.v1.lease;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class JobLeaseService {
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    public boolean tryAcquire(String name, Duration duration) {
+        return jobLeaseRepository.tryAcquire(name, owner, duration.toMillis() / 1000.0) > 0;
+    }
+
+    public void release(String name) {
+        jobLeaseRepository.release(name, owner);
+    }
+}
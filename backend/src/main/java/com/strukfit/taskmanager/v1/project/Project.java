@@ -2,6 +2,9 @@ package com.strukfit.taskmanager.v1.project;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
 import com.strukfit.taskmanager.v1.workspace.Workspace;
 
 import jakarta.persistence.Column;
@@ -10,15 +13,21 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
 @Data
+@Table(indexes = { @Index(name = "idx_project_workspace_updated", columnList = "workspace_id,updated_at,id") })
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -28,6 +37,17 @@ public class Project {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Overwritten with database time by trg_project_updated_at, see Issue.updatedAt.
+    @UpdateTimestamp
+    @ColumnDefault("clock_timestamp()")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workspace_id", nullable = false)
     private Workspace workspace;
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.strukfit.taskmanager.common.dto.ApiResponse;
 import com.strukfit.taskmanager.v1.project.dto.ProjectCreateDTO;
@@ -19,7 +20,9 @@ import com.strukfit.taskmanager.v1.project.dto.ProjectDTO;
 import com.strukfit.taskmanager.v1.project.dto.ProjectQueryDTO;
 import com.strukfit.taskmanager.v1.project.dto.ProjectUpdateDTO;
 import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.utils.ETagUtils;
 import com.strukfit.taskmanager.v1.utils.SecurityUtils;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceService;
 
 import jakarta.validation.Valid;
 
@@ -35,13 +38,24 @@ public class ProjectController {
     @Autowired
     private SecurityUtils securityUtils;
 
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private ETagUtils eTagUtils;
+
     @GetMapping
     public ResponseEntity<ApiResponse<Page<ProjectDTO>>> getAll(
             @PathVariable Long workspaceId,
-            @Valid @ModelAttribute ProjectQueryDTO dto) {
+            @Valid @ModelAttribute ProjectQueryDTO dto,
+            WebRequest request) {
         User user = securityUtils.getCurrentUser();
+        String eTag = workspaceService.getContentETag(workspaceId, user);
+        if (eTagUtils.matches(request, eTag)) {
+            return eTagUtils.notModified(eTag);
+        }
         Page<ProjectDTO> projects = projectService.getAllByWorkspace(workspaceId, user, dto).map(projectMapper::toDTO);
-        return ResponseEntity.ok(ApiResponse.success(projects));
+        return eTagUtils.ok(eTag, ApiResponse.success(projects));
     }
 
     @GetMapping("/{id}")
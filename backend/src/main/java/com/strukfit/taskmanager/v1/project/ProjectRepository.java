@@ -1,11 +1,24 @@
 package com.strukfit.taskmanager.v1.project;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.strukfit.taskmanager.v1.workspace.Workspace;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     Page<Project> findByWorkspace(Workspace workspace, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "workspace" })
+    Optional<Project> findWithWorkspaceById(Long id);
+
+    List<Project> findByWorkspaceIdAndNameInOrderByIdAsc(Long workspaceId, Collection<String> names);
+
+    List<Project> findByWorkspaceIdAndUpdatedAtAfterOrderByUpdatedAtAscIdAsc(Long workspaceId, LocalDateTime updatedAt);
 }
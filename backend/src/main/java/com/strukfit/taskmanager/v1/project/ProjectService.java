@@ -1,15 +1,25 @@
 package com.strukfit.taskmanager.v1.project;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.issue.IssueRepository;
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService;
 import com.strukfit.taskmanager.v1.project.dto.ProjectCreateDTO;
 import com.strukfit.taskmanager.v1.project.dto.ProjectQueryDTO;
 import com.strukfit.taskmanager.v1.project.dto.ProjectUpdateDTO;
+import com.strukfit.taskmanager.v1.sync.SyncService;
+import com.strukfit.taskmanager.v1.sync.enums.TombstoneType;
 import com.strukfit.taskmanager.v1.user.User;
 import com.strukfit.taskmanager.v1.workspace.Workspace;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceAuthorizer;
 import com.strukfit.taskmanager.v1.workspace.WorkspaceRepository;
 
 @Service
@@ -23,17 +33,28 @@ public class ProjectService {
     @Autowired
     private WorkspaceRepository workspaceRepository;
 
+    @Autowired
+    private WorkspaceAuthorizer workspaceAuthorizer;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private Workspace getWorkspaceById(Long id, User user) {
-        Workspace workspace = workspaceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Workspace not found"));
-        if (!workspace.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("Unauthorized");
-        }
-        return workspace;
+        workspaceAuthorizer.checkAccess(id, user);
+        return workspaceRepository.getReferenceById(id);
     }
 
     private Project getProjectById(Long workspaceId, Long projectId, User user) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findWithWorkspaceById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         if (!project.getWorkspace().getId().equals(workspaceId)) {
             throw new RuntimeException("Project does not belong to workspace");
@@ -57,22 +78,39 @@ public class ProjectService {
         return getProjectById(workspaceId, projectId, user);
     }
 
+    @Transactional
     public Project create(Long wokspaceId, ProjectCreateDTO dto, User user) {
         Workspace workspace = getWorkspaceById(wokspaceId, user);
         Project project = new Project();
         projectMapper.createProjectFromDTO(dto, project);
         project.setWorkspace(workspace);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        workspaceRepository.incrementContentVersion(wokspaceId);
+        applicationEventPublisher.publishEvent(new WorkspaceEvent(wokspaceId, WorkspaceEvent.PROJECT,
+                WorkspaceEvent.CREATED, saved.getId(), saved.getVersion()));
+        return saved;
     }
 
+    @Transactional
     public Project update(Long workspaceId, Long projectId, ProjectUpdateDTO dto, User user) {
         Project project = getProjectById(workspaceId, projectId, user);
         projectMapper.updateProjectFromDTO(dto, project);
-        return projectRepository.save(project);
+        Project saved = projectRepository.saveAndFlush(project);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        applicationEventPublisher.publishEvent(new WorkspaceEvent(workspaceId, WorkspaceEvent.PROJECT,
+                WorkspaceEvent.UPDATED, saved.getId(), saved.getVersion()));
+        return saved;
     }
 
+    @Transactional
     public void delete(Long workspaceId, Long projectId, User user) {
         Project project = getProjectById(workspaceId, projectId, user);
+        issueRepository.detachProject(projectId);
         projectRepository.delete(project);
+        syncService.recordDeleted(workspaceId, TombstoneType.PROJECT, List.of(projectId));
+        issueCounterService.projectDeleted(workspaceId, projectId);
+        workspaceRepository.incrementContentVersion(workspaceId);
+        applicationEventPublisher.publishEvent(new WorkspaceEvent(workspaceId, WorkspaceEvent.PROJECT,
+                WorkspaceEvent.DELETED, projectId, null));
     }
 }
@@ -8,4 +8,5 @@ public class ProjectDTO {
     private String name;
     private String description;
     private String createdAt;
+    private String updatedAt;
 }
@@ -0,0 +1,93 @@
+package com.strukfit.taskmanager.v1.ratelimit;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.strukfit.taskmanager.v1.ratelimit.enums.RateLimitKey;
+import com.strukfit.taskmanager.v1.user.UserPrincipal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final boolean enabled;
+    private final List<TokenBucketLimiter> limiters;
+    private final Map<String, Counter> rejections;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.limiters = properties.getRules().stream().map(TokenBucketLimiter::new).toList();
+        this.rejections = limiters.stream().collect(Collectors.toMap(TokenBucketLimiter::getName,
+                limiter -> Counter.builder("http.server.requests.rate_limited")
+                        .tag("rule", limiter.getName())
+                        .register(meterRegistry)));
+        limiters.forEach(limiter -> meterRegistry.gauge("http.server.requests.rate_limit.buckets",
+                Tags.of("rule", limiter.getName()), limiter,
+                TokenBucketLimiter::size));
+    }
+
+    private static String clientKey(TokenBucketLimiter limiter, HttpServletRequest request) {
+        if (limiter.getKey() == RateLimitKey.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                return String.valueOf(principal.id());
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private TokenBucketLimiter match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        for (TokenBucketLimiter limiter : limiters) {
+            if (limiter.matches(method, uri)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        TokenBucketLimiter limiter = enabled ? match(request) : null;
+        if (limiter != null) {
+            long waitNanos = limiter.tryAcquire(clientKey(limiter, request), System.nanoTime());
+            if (waitNanos > 0) {
+                rejections.get(limiter.getName()).increment();
+                response.setStatus(429);
+                response.setHeader("Retry-After",
+                        String.valueOf(Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)
+                                / TimeUnit.SECONDS.toNanos(1))));
+                response.getWriter().write("Too many requests");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        limiters.forEach(limiter -> limiter.evictIdle(now));
+    }
+}
@@ -0,0 +1,42 @@
+package com.strukfit.taskmanager.v1.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.strukfit.taskmanager.v1.ratelimit.enums.RateLimitKey;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("login", "/v1/auth/login", List.of("POST"), RateLimitKey.IP, 10, Duration.ofMinutes(1)),
+            new Rule("signup", "/v1/auth/signup", List.of("POST"), RateLimitKey.IP, 5, Duration.ofMinutes(10)),
+            new Rule("refresh", "/v1/auth/refresh", List.of("POST"), RateLimitKey.IP, 30, Duration.ofMinutes(1)),
+            new Rule("password-reset", "/v1/auth/password/reset/**", List.of("POST"), RateLimitKey.IP, 5,
+                    Duration.ofMinutes(15)),
+            new Rule("writes", "/v1/**", List.of("POST", "PUT", "PATCH", "DELETE"), RateLimitKey.USER, 300,
+                    Duration.ofMinutes(1))));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String name;
+        private String path;
+        private List<String> methods = new ArrayList<>();
+        private RateLimitKey key = RateLimitKey.IP;
+        private int capacity;
+        private Duration period;
+    }
+}
@@ -0,0 +1,67 @@
+package com.strukfit.taskmanager.v1.ratelimit;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.strukfit.taskmanager.v1.ratelimit.enums.RateLimitKey;
+
+class TokenBucketLimiter {
+    private final String name;
+    private final String path;
+    private final boolean prefix;
+    private final Set<String> methods;
+    private final RateLimitKey key;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    TokenBucketLimiter(RateLimitProperties.Rule rule) {
+        this.name = rule.getName();
+        this.prefix = rule.getPath().endsWith("/**");
+        this.path = prefix ? rule.getPath().substring(0, rule.getPath().length() - 2) : rule.getPath();
+        this.methods = Set.copyOf(rule.getMethods());
+        this.key = rule.getKey();
+        this.burstNanos = rule.getPeriod().toNanos();
+        this.intervalNanos = burstNanos / rule.getCapacity();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    RateLimitKey getKey() {
+        return key;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    boolean matches(String method, String uri) {
+        return (methods.isEmpty() || methods.contains(method))
+                && (prefix ? uri.startsWith(path) : uri.equals(path));
+    }
+
+    long tryAcquire(String client, long now) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(client, ignored -> new AtomicLong(Long.MIN_VALUE));
+        }
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long next = Math.max(theoreticalArrival, now) + intervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+}
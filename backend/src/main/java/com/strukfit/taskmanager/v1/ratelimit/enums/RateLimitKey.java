@@ -0,0 +1,6 @@
+package com.strukfit.taskmanager.v1.ratelimit.enums;
+
+public enum RateLimitKey {
+    IP,
+    USER
+}
@@ -0,0 +1,35 @@
+package com.strukfit.taskmanager.v1.sync;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.strukfit.taskmanager.common.dto.ApiResponse;
+import com.strukfit.taskmanager.v1.sync.dto.SyncDTO;
+import com.strukfit.taskmanager.v1.sync.dto.SyncQueryDTO;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.utils.SecurityUtils;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/workspaces/{workspaceId}/sync")
+public class SyncController {
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncDTO>> getChanges(@PathVariable Long workspaceId,
+            @Valid @ModelAttribute SyncQueryDTO dto) {
+        User user = securityUtils.getCurrentUser();
+        SyncDTO changes = syncService.getChanges(workspaceId, user, dto);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+}
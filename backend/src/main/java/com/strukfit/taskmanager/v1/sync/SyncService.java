@@ -0,0 +1,135 @@
+package com.strukfit.taskmanager.v1.sync;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.strukfit.taskmanager.v1.issue.Issue;
+import com.strukfit.taskmanager.v1.issue.IssueMapper;
+import com.strukfit.taskmanager.v1.issue.IssueRepository;
+import com.strukfit.taskmanager.v1.project.Project;
+import com.strukfit.taskmanager.v1.project.ProjectMapper;
+import com.strukfit.taskmanager.v1.project.ProjectRepository;
+import com.strukfit.taskmanager.v1.sync.dto.SyncDTO;
+import com.strukfit.taskmanager.v1.sync.dto.SyncQueryDTO;
+import com.strukfit.taskmanager.v1.sync.enums.TombstoneType;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceAuthorizer;
+
+@Service
+public class SyncService {
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private WorkspaceAuthorizer workspaceAuthorizer;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Value("${app.sync.commit-lag:PT30S}")
+    private Duration commitLag;
+
+    @Value("${app.sync.tombstone-retention:P30D}")
+    private Duration tombstoneRetention;
+
+    public void recordDeleted(Long workspaceId, TombstoneType type, Collection<Long> ids) {
+        tombstoneRepository.saveAll(ids.stream()
+                .map(id -> new Tombstone(null, workspaceId, type, id, null))
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public SyncDTO getChanges(Long workspaceId, User user, SyncQueryDTO dto) {
+        workspaceAuthorizer.checkAccess(workspaceId, user);
+        LocalDateTime now = tombstoneRepository.currentTimestamp();
+
+        SyncToken since = dto.getToken() != null && !dto.getToken().isEmpty() ? SyncToken.decode(dto.getToken()) : null;
+        if (since != null && since.updatedAtValue().isBefore(now.minus(tombstoneRetention))) {
+            return new SyncDTO(List.of(), List.of(), List.of(), List.of(), null, false, true);
+        }
+        LocalDateTime from = since != null ? since.updatedAtValue() : EPOCH;
+        Long fromId = since != null ? since.getId() : 0L;
+
+        List<Issue> issues = issueRepository.findChangedSince(workspaceId, from, fromId, Limit.of(dto.getLimit() + 1));
+        boolean hasMore = issues.size() > dto.getLimit();
+        if (hasMore) {
+            issues = issues.subList(0, dto.getLimit());
+        }
+        Issue last = issues.isEmpty() ? null : issues.get(issues.size() - 1);
+
+        List<Project> projects = projectRepository.findByWorkspaceIdAndUpdatedAtAfterOrderByUpdatedAtAscIdAsc(
+                workspaceId, from);
+        List<Tombstone> tombstones = since != null
+                ? tombstoneRepository.findByWorkspaceIdAndDeletedAtAfterOrderByDeletedAtAsc(workspaceId, from)
+                : List.of();
+
+        SyncToken next;
+        if (hasMore) {
+            next = new SyncToken(last.getUpdatedAt(), last.getId());
+        } else {
+            LocalDateTime seen = last != null ? last.getUpdatedAt() : from;
+            Long seenId = last != null ? last.getId() : fromId;
+            if (!projects.isEmpty() && projects.get(projects.size() - 1).getUpdatedAt().isAfter(seen)) {
+                seen = projects.get(projects.size() - 1).getUpdatedAt();
+                seenId = 0L;
+            }
+            if (!tombstones.isEmpty() && tombstones.get(tombstones.size() - 1).getDeletedAt().isAfter(seen)) {
+                seen = tombstones.get(tombstones.size() - 1).getDeletedAt();
+                seenId = 0L;
+            }
+            next = new SyncToken(seen, seenId);
+        }
+
+        // Rows are stamped with database time when written, not when committed, so a transaction still in flight
+        // can commit rows stamped up to its own duration ago. No token moves past database time minus the lag,
+        // which must exceed the longest write transaction (bulk endpoints, import merges); rows newer than that
+        // are sent again on the next call.
+        SyncToken capped = next.capAt(now.minus(commitLag));
+        if (capped != next) {
+            hasMore = false;
+        }
+
+        return new SyncDTO(
+                issues.stream().map(issueMapper::toDTO).toList(),
+                projects.stream().map(projectMapper::toDTO).toList(),
+                tombstones.stream().filter(t -> t.getEntityType() == TombstoneType.ISSUE)
+                        .map(Tombstone::getEntityId).toList(),
+                tombstones.stream().filter(t -> t.getEntityType() == TombstoneType.PROJECT)
+                        .map(Tombstone::getEntityId).toList(),
+                capped.encode(),
+                hasMore,
+                false);
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.tombstone-purge-interval:PT6H}")
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteByDeletedAtBefore(
+                tombstoneRepository.currentTimestamp().minus(tombstoneRetention));
+        if (purged > 0) {
+            logger.info("Purged {} tombstones", purged);
+        }
+    }
+}
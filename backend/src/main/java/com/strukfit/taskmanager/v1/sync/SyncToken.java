@@ -0,0 +1,59 @@
+package com.strukfit.taskmanager.v1.sync;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncToken {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String updatedAt;
+    private Long id;
+
+    public SyncToken(LocalDateTime updatedAt, Long id) {
+        this(updatedAt.toString(), id);
+    }
+
+    public LocalDateTime updatedAtValue() {
+        return LocalDateTime.parse(updatedAt);
+    }
+
+    public SyncToken capAt(LocalDateTime settled) {
+        return updatedAtValue().isAfter(settled) ? new SyncToken(settled, 0L) : this;
+    }
+
+    public String encode() {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to encode sync token", e);
+        }
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            SyncToken decoded = objectMapper.readValue(json, SyncToken.class);
+            if (decoded.getUpdatedAt() == null || decoded.getId() == null) {
+                throw new RuntimeException("Invalid sync token");
+            }
+            decoded.updatedAtValue();
+            return decoded;
+        } catch (IllegalArgumentException | IOException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid sync token");
+        }
+    }
+}
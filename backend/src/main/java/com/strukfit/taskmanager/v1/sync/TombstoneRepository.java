@@ -0,0 +1,27 @@
+package com.strukfit.taskmanager.v1.sync;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+    @Query("select local datetime")
+    LocalDateTime currentTimestamp();
+
+    List<Tombstone> findByWorkspaceIdAndDeletedAtAfterOrderByDeletedAtAsc(Long workspaceId, LocalDateTime deletedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Tombstone t where t.workspaceId = :workspaceId")
+    void deleteByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Tombstone t where t.deletedAt < :deletedAt")
+    int deleteByDeletedAtBefore(@Param("deletedAt") LocalDateTime deletedAt);
+}
@@ -0,0 +1,21 @@
+package com.strukfit.taskmanager.v1.sync.dto;
+
+import java.util.List;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueDTO;
+import com.strukfit.taskmanager.v1.project.dto.ProjectDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SyncDTO {
+    private List<IssueDTO> issues;
+    private List<ProjectDTO> projects;
+    private List<Long> deletedIssueIds;
+    private List<Long> deletedProjectIds;
+    private String token;
+    private boolean hasMore;
+    private boolean reset;
+}
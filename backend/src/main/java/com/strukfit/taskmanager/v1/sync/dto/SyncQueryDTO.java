@@ -0,0 +1,14 @@
+package com.strukfit.taskmanager.v1.sync.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class SyncQueryDTO {
+    private String token;
+
+    @Min(1)
+    @Max(1000)
+    private int limit = 500;
+}
@@ -0,0 +1,6 @@
+package com.strukfit.taskmanager.v1.sync.enums;
+
+public enum TombstoneType {
+    ISSUE,
+    PROJECT
+}
@@ -0,0 +1,63 @@
+package com.strukfit.taskmanager.v1.user;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caches an immutable snapshot of each user and hands every caller its own detached {@link User} copy, so a
+ * caller that mutates the result cannot change what others see. Copies carry no password hash; load the
+ * user from {@link UserRepository} when it is needed.
+ * <p>
+ * {@link #invalidate(Long)} only clears this instance. Other instances can serve a changed username or email
+ * for up to app.user-cache.ttl (default one minute).
+ */
+@Component
+public class UserCache {
+    private record Snapshot(Long id, String username, String email, LocalDateTime createdAt) {
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getUsername(), user.getEmail(), user.getCreatedAt());
+        }
+
+        User toUser() {
+            User user = new User();
+            user.setId(id);
+            user.setUsername(username);
+            user.setEmail(email);
+            user.setCreatedAt(createdAt);
+            return user;
+        }
+    }
+
+    private final Cache<Long, Snapshot> users;
+
+    public UserCache(MeterRegistry meterRegistry,
+            @Value("${app.user-cache.ttl:PT1M}") Duration ttl,
+            @Value("${app.user-cache.max-size:10000}") long maxSize) {
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    public Optional<User> get(Long id, Function<Long, Optional<User>> loader) {
+        Snapshot snapshot = users.get(id, key -> loader.apply(key).map(Snapshot::of).orElse(null));
+        return Optional.ofNullable(snapshot).map(Snapshot::toUser);
+    }
+
+    public void invalidate(Long id) {
+        users.invalidate(id);
+    }
+}
@@ -38,8 +38,7 @@ public class UserController {
     @PutMapping("/me")
     public ResponseEntity<ApiResponse<UserDTO>> updateProfile(
             @Valid @RequestBody UserUpdateDTO dto) {
-        User currentUser = securityUtils.getCurrentUser();
-        User updated = userService.update(currentUser.getId(), dto);
+        User updated = userService.update(securityUtils.getCurrentUserId(), dto);
         UserDTO response = userMapper.toDTO(updated);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -47,8 +46,7 @@ public class UserController {
     @PutMapping("/me/password")
     public ResponseEntity<ApiResponse<Void>> updatePassword(
             @Valid @RequestBody UserPasswordDTO dto) {
-        User currentUser = securityUtils.getCurrentUser();
-        userService.updatePassword(currentUser.getId(), dto.getCurrentPassword(), dto.getNewPassword());
+        userService.updatePassword(securityUtils.getCurrentUserId(), dto.getCurrentPassword(), dto.getNewPassword());
         return ResponseEntity.ok(ApiResponse.success(null, "Password updated successfully"));
     }
 }
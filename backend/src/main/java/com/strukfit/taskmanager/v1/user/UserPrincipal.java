@@ -0,0 +1,4 @@
+package com.strukfit.taskmanager.v1.user;
+
+public record UserPrincipal(Long id, String username, String email) {
+}
@@ -1,9 +1,10 @@
 package com.strukfit.taskmanager.v1.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.strukfit.taskmanager.v1.auth.password.PasswordHasher;
+
 import com.strukfit.taskmanager.v1.user.dto.UserRegisterDTO;
 import com.strukfit.taskmanager.v1.user.dto.UserUpdateDTO;
 
@@ -15,12 +16,16 @@ public class UserService {
     @Autowired
     private UserMapper userMapper;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
 
     public User register(UserRegisterDTO dto) {
         User user = new User();
         userMapper.createUserFromDTO(dto, user);
-        user.setPasswordHash(passwordEncoder.encode(dto.getPassword()));
+        user.setPasswordHash(passwordHasher.encode(dto.getPassword()));
         return userRepository.save(user);
     }
 
@@ -42,26 +47,45 @@ public class UserService {
         }
 
         userMapper.updateUserFromDTO(dto, user);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userCache.invalidate(userId);
+        return saved;
     }
 
     public User updatePassword(Long userId, String newPassword) {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
-        return userRepository.save(user);
+        user.setPasswordHash(passwordHasher.encode(newPassword));
+        User saved = userRepository.save(user);
+        userCache.invalidate(userId);
+        return saved;
     }
 
     public User updatePassword(Long userId, String currentPassword, String newPassword) {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHasher.matches(currentPassword, user.getPassword())) {
             throw new RuntimeException("Current password is incorrect");
         }
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
-        return userRepository.save(user);
+        user.setPasswordHash(passwordHasher.encode(newPassword));
+        User saved = userRepository.save(user);
+        userCache.invalidate(userId);
+        return saved;
+    }
+
+    public User authenticate(String username, String password) {
+        User user = userRepository.findByUsername(username);
+        if (user == null || !passwordHasher.matches(password, user.getPassword())) {
+            return null;
+        }
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPasswordHash(passwordHasher.encode(password));
+            user = userRepository.save(user);
+            userCache.invalidate(user.getId());
+        }
+        return user;
     }
 
     public User findById(Long id) {
-        return userRepository.findById(id)
+        return userCache.get(id, userRepository::findById)
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
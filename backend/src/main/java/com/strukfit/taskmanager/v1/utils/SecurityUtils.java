@@ -1,17 +1,31 @@
 package com.strukfit.taskmanager.v1.utils;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.user.UserPrincipal;
+import com.strukfit.taskmanager.v1.user.UserService;
 
 @Component
 public class SecurityUtils {
-    public User getCurrentUser() {
+    @Autowired
+    private UserService userService;
+
+    public UserPrincipal getCurrentPrincipal() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        if (principal instanceof User) {
-            return (User) principal;
+        if (principal instanceof UserPrincipal) {
+            return (UserPrincipal) principal;
         }
         throw new RuntimeException("No authenticated user found or invalid principal");
     }
+
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().id();
+    }
+
+    public User getCurrentUser() {
+        return userService.findById(getCurrentUserId());
+    }
 }
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.strukfit.taskmanager.v1.issue.Issue;
 import com.strukfit.taskmanager.v1.project.Project;
 import com.strukfit.taskmanager.v1.user.User;
@@ -18,13 +20,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
 @Data
 public class Workspace {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_seq")
+    @SequenceGenerator(name = "workspace_seq", sequenceName = "workspace_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -34,6 +39,15 @@ public class Workspace {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @ColumnDefault("0")
+    @Column(name = "content_version", nullable = false, updatable = false)
+    private Long contentVersion = 0L;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,62 @@
+package com.strukfit.taskmanager.v1.workspace;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.user.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class WorkspaceAuthorizer {
+    private record AccessKey(Long userId, Long workspaceId) {
+    }
+
+    private final WorkspaceRepository workspaceRepository;
+    private final Cache<AccessKey, Boolean> allowed;
+
+    public WorkspaceAuthorizer(WorkspaceRepository workspaceRepository, MeterRegistry meterRegistry,
+            @Value("${app.workspace-access.cache.ttl:PT5M}") Duration ttl,
+            @Value("${app.workspace-access.cache.max-size:100000}") long maxSize) {
+        this.workspaceRepository = workspaceRepository;
+        this.allowed = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, allowed, "workspaceAccess");
+    }
+
+    public void checkAccess(Long workspaceId, User user) {
+        AccessKey key = new AccessKey(user.getId(), workspaceId);
+        if (allowed.getIfPresent(key) != null) {
+            return;
+        }
+        if (workspaceRepository.existsByIdAndUserId(workspaceId, user.getId())) {
+            allowed.put(key, Boolean.TRUE);
+            return;
+        }
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new RuntimeException("Workspace not found");
+        }
+        throw new RuntimeException("Unauthorized");
+    }
+
+    public void evict(Long workspaceId) {
+        allowed.asMap().keySet().removeIf(key -> key.workspaceId().equals(workspaceId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkspaceEvent(WorkspaceEvent event) {
+        if (WorkspaceEvent.WORKSPACE.equals(event.type()) && WorkspaceEvent.DELETED.equals(event.action())) {
+            evict(event.workspaceId());
+        }
+    }
+}
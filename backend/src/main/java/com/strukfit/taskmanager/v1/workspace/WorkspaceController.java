@@ -13,9 +13,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.strukfit.taskmanager.common.dto.ApiResponse;
 import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.utils.ETagUtils;
 import com.strukfit.taskmanager.v1.utils.SecurityUtils;
 import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceCreateDTO;
 import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceDTO;
@@ -35,14 +37,21 @@ public class WorkspaceController {
     @Autowired
     private SecurityUtils securityUtils;
 
+    @Autowired
+    private ETagUtils eTagUtils;
+
     @GetMapping
-    public ResponseEntity<ApiResponse<List<WorkspaceDTO>>> getAll() {
+    public ResponseEntity<ApiResponse<List<WorkspaceDTO>>> getAll(WebRequest request) {
         User user = securityUtils.getCurrentUser();
+        String eTag = workspaceService.getListETag(user);
+        if (eTagUtils.matches(request, eTag)) {
+            return eTagUtils.notModified(eTag);
+        }
         List<WorkspaceDTO> workspaces = workspaceService.getAllForUser(user)
                 .stream()
                 .map(workspaceMapper::toDTO)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponse.success(workspaces));
+        return eTagUtils.ok(eTag, ApiResponse.success(workspaces));
     }
 
     @GetMapping("/{id}")
@@ -14,6 +14,8 @@ public interface WorkspaceMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "contentVersion", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "projects", ignore = true)
     @Mapping(target = "issues", ignore = true)
@@ -4,6 +4,9 @@ import java.util.List;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.strukfit.taskmanager.v1.user.User;
 
@@ -11,4 +14,20 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
     List<Workspace> findByUser(User user);
 
     List<Workspace> findByUser(User user, Sort sort);
+
+    @Query("select w.id from Workspace w order by w.id")
+    List<Long> findAllIds();
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    @Query("select w.contentVersion from Workspace w where w.id = :id")
+    Long findContentVersionById(Long id);
+
+    @Query("select w.id, w.contentVersion from Workspace w where w.user = :user order by w.id")
+    List<Object[]> findContentVersionsByUser(User user);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update workspace set content_version = content_version + 1 where id = :id", nativeQuery = true)
+    void incrementContentVersion(Long id);
 }
@@ -1,12 +1,19 @@
 package com.strukfit.taskmanager.v1.workspace;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService;
+import com.strukfit.taskmanager.v1.sync.TombstoneRepository;
 import com.strukfit.taskmanager.v1.user.User;
 import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceCreateDTO;
 import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceUpdateDTO;
@@ -19,6 +26,18 @@ public class WorkspaceService {
     @Autowired
     private WorkspaceMapper workspaceMapper;
 
+    @Autowired
+    private WorkspaceAuthorizer workspaceAuthorizer;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     public List<Workspace> getAllForUser(User user) {
         Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
         return workspaceRepository.findByUser(user, sort);
@@ -33,6 +52,23 @@ public class WorkspaceService {
         return workspace;
     }
 
+    public void checkAccess(Long id, User user) {
+        workspaceAuthorizer.checkAccess(id, user);
+    }
+
+    public String getContentETag(Long id, User user) {
+        workspaceAuthorizer.checkAccess(id, user);
+        return "\"" + id + "-" + workspaceRepository.findContentVersionById(id) + "\"";
+    }
+
+    public String getListETag(User user) {
+        StringBuilder versions = new StringBuilder();
+        for (Object[] row : workspaceRepository.findContentVersionsByUser(user)) {
+            versions.append(row[0]).append(':').append(row[1]).append(',');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     public Workspace create(WorkspaceCreateDTO dto, User user) {
         Workspace workspace = new Workspace();
         BeanUtils.copyProperties(dto, workspace);
@@ -40,14 +76,24 @@ public class WorkspaceService {
         return workspaceRepository.save(workspace);
     }
 
+    @Transactional
     public Workspace update(Long id, WorkspaceUpdateDTO dto, User user) {
         Workspace workspace = getById(id, user);
         workspaceMapper.updateWorkspaceFromDTO(dto, workspace);
-        return workspaceRepository.save(workspace);
+        Workspace saved = workspaceRepository.saveAndFlush(workspace);
+        workspaceRepository.incrementContentVersion(id);
+        applicationEventPublisher.publishEvent(new WorkspaceEvent(id, WorkspaceEvent.WORKSPACE,
+                WorkspaceEvent.UPDATED, id, saved.getVersion()));
+        return saved;
     }
 
+    @Transactional
     public void delete(Long id, User user) {
         Workspace workspace = getById(id, user);
         workspaceRepository.delete(workspace);
+        issueCounterService.workspaceDeleted(id);
+        tombstoneRepository.deleteByWorkspaceId(id);
+        applicationEventPublisher.publishEvent(new WorkspaceEvent(id, WorkspaceEvent.WORKSPACE,
+                WorkspaceEvent.DELETED, id, null));
     }
 }
@@ -0,0 +1,103 @@
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'issue'
+                 AND column_name = 'status' AND data_type = 'character varying') THEN
+        ALTER TABLE issue DROP CONSTRAINT IF EXISTS issue_status_check;
+        ALTER TABLE issue ALTER COLUMN status TYPE smallint USING CASE status
+            WHEN 'BACKLOG' THEN 0
+            WHEN 'TO_DO' THEN 1
+            WHEN 'IN_PROGRESS' THEN 2
+            WHEN 'DONE' THEN 3
+            WHEN 'CANCELED' THEN 4
+            WHEN 'DUPLICATE' THEN 5
+            ELSE 0 END;
+        ALTER TABLE issue ALTER COLUMN status SET NOT NULL;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'issue'
+                 AND column_name = 'priority' AND data_type = 'character varying') THEN
+        ALTER TABLE issue DROP CONSTRAINT IF EXISTS issue_priority_check;
+        ALTER TABLE issue ALTER COLUMN priority TYPE smallint USING CASE priority
+            WHEN 'NONE' THEN 0
+            WHEN 'LOW' THEN 1
+            WHEN 'MEDIUM' THEN 2
+            WHEN 'HIGH' THEN 3
+            WHEN 'CRITICAL' THEN 4
+            ELSE 0 END;
+        ALTER TABLE issue ALTER COLUMN priority SET NOT NULL;
+    END IF;
+END $$;
+
+ALTER TABLE issue ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_issue_search_vector ON issue USING gin (search_vector);
+
+DO $$
+DECLARE
+    entity record;
+    max_id bigint;
+    last_id bigint;
+    called boolean;
+BEGIN
+    FOR entity IN SELECT * FROM (VALUES
+            ('issue', 'issue_seq'),
+            ('project', 'project_seq'),
+            ('workspace', 'workspace_seq'),
+            ('users', 'users_seq'),
+            ('tokens', 'tokens_seq')) AS t(table_name, sequence_name) LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', entity.table_name);
+        EXECUTE format('SELECT max(id) FROM %I', entity.table_name) INTO max_id;
+        EXECUTE format('SELECT last_value, is_called FROM %I', entity.sequence_name) INTO last_id, called;
+        IF max_id IS NOT NULL AND (NOT called OR last_id < max_id) THEN
+            PERFORM setval(entity.sequence_name, max_id, true);
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE UNLOGGED TABLE IF NOT EXISTS issue_import_staging (
+    import_id bigint NOT NULL,
+    id bigint NOT NULL,
+    title varchar(255) NOT NULL,
+    description varchar(2000),
+    priority smallint NOT NULL,
+    status smallint NOT NULL,
+    project_id bigint,
+    created_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_issue_import_staging_import ON issue_import_staging (import_id);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tokens' AND column_name = 'token') THEN
+        ALTER TABLE tokens ADD COLUMN IF NOT EXISTS token_hash bytea;
+        UPDATE tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL;
+        ALTER TABLE tokens DROP COLUMN token;
+    END IF;
+END $$;
+
+ALTER TABLE tokens ALTER COLUMN token_hash SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_tokens_token_hash ON tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_tokens_user_type ON tokens (user_id, type, expiry_date);
+
+CREATE OR REPLACE FUNCTION stamp_updated_at() RETURNS trigger AS $$
+BEGIN
+    NEW.updated_at := clock_timestamp();
+    RETURN NEW;
+END $$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_issue_updated_at ON issue;
+CREATE TRIGGER trg_issue_updated_at BEFORE INSERT OR UPDATE ON issue
+    FOR EACH ROW EXECUTE FUNCTION stamp_updated_at();
+
+DROP TRIGGER IF EXISTS trg_project_updated_at ON project;
+CREATE TRIGGER trg_project_updated_at BEFORE INSERT OR UPDATE ON project
+    FOR EACH ROW EXECUTE FUNCTION stamp_updated_at();
+
+ALTER TABLE tombstone ALTER COLUMN deleted_at SET DEFAULT clock_timestamp();
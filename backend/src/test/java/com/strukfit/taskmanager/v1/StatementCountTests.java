@@ -0,0 +1,235 @@
+package com.strukfit.taskmanager.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.strukfit.taskmanager.v1.auth.jwt.JwtService;
+import com.strukfit.taskmanager.v1.issue.Issue;
+import com.strukfit.taskmanager.v1.issue.IssueService;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkCreateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkUpdateDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueBulkUpdateItemDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueCreateDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+import com.strukfit.taskmanager.v1.project.Project;
+import com.strukfit.taskmanager.v1.project.ProjectService;
+import com.strukfit.taskmanager.v1.project.dto.ProjectCreateDTO;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.user.UserCache;
+import com.strukfit.taskmanager.v1.user.UserRepository;
+import com.strukfit.taskmanager.v1.workspace.Workspace;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceAuthorizer;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceService;
+import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceCreateDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements each read endpoint prepares, so an N+1 shows up as a failure rather than as
+ * latency. The counts do not depend on how many projects and issues the workspace holds. Requires a
+ * PostgreSQL database through the usual SPRING_DATASOURCE_* variables.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.mail.outbox.poll-interval=PT1H" })
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementCountTests {
+    private static final int PROJECTS = 5;
+    private static final int ISSUES = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private WorkspaceAuthorizer workspaceAuthorizer;
+
+    private Statistics statistics;
+    private User user;
+    private String token;
+    private Long workspaceId;
+    private Long projectId;
+    private Long issueId;
+    private List<Long> issueIds;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String name = "stmt-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPasswordHash("unused");
+        user = userRepository.save(user);
+        token = jwtService.generateAccessToken(user);
+
+        WorkspaceCreateDTO workspace = new WorkspaceCreateDTO();
+        workspace.setName(name);
+        Workspace created = workspaceService.create(workspace, user);
+        workspaceId = created.getId();
+
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            ProjectCreateDTO project = new ProjectCreateDTO();
+            project.setName("Project " + i);
+            Project saved = projectService.create(workspaceId, project, user);
+            projectIds.add(saved.getId());
+        }
+        projectId = projectIds.get(0);
+
+        List<IssueCreateDTO> issues = new ArrayList<>();
+        for (int i = 0; i < ISSUES; i++) {
+            IssueCreateDTO issue = new IssueCreateDTO();
+            issue.setTitle("Issue " + i);
+            issue.setStatus(Status.values()[i % Status.values().length]);
+            issue.setPriority(Priority.values()[i % Priority.values().length]);
+            issue.setProjectId(i % 4 == 0 ? null : projectIds.get(i % PROJECTS));
+            issues.add(issue);
+        }
+        IssueBulkCreateDTO bulk = new IssueBulkCreateDTO();
+        bulk.setIssues(issues);
+        List<Issue> saved = issueService.createAll(workspaceId, bulk, user);
+        issueIds = saved.stream().map(Issue::getId).toList();
+        issueId = issueIds.get(issueIds.size() - 1);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        workspaceService.delete(workspaceId, user);
+        userRepository.delete(user);
+    }
+
+    private long statements(String path) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(path).header("Authorization", "Bearer " + token)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    // Cold requests also load the user and, on paths that use it, check workspace membership.
+    private void assertStatements(String path, long cold, long warm) throws Exception {
+        userCache.invalidate(user.getId());
+        workspaceAuthorizer.evict(workspaceId);
+        assertThat(statements(path)).as("cold %s", path).isEqualTo(cold);
+        assertThat(statements(path)).as("warm %s", path).isEqualTo(warm);
+    }
+
+    @Test
+    void workspaceList() throws Exception {
+        assertStatements("/v1/workspaces", 3, 2);
+    }
+
+    @Test
+    void projectList() throws Exception {
+        assertStatements("/v1/workspaces/" + workspaceId + "/projects", 4, 2);
+    }
+
+    @Test
+    void singleIssue() throws Exception {
+        assertStatements("/v1/workspaces/" + workspaceId + "/issues/" + issueId, 2, 1);
+    }
+
+    @Test
+    void singleProject() throws Exception {
+        assertStatements("/v1/workspaces/" + workspaceId + "/projects/" + projectId, 2, 1);
+    }
+
+    @Test
+    void board() throws Exception {
+        assertStatements("/v1/workspaces/" + workspaceId + "/issues?groupBy=status", 6, 4);
+        assertStatements("/v1/workspaces/" + workspaceId + "/issues?groupBy=project", 6, 4);
+    }
+
+    @Test
+    void groupPage() throws Exception {
+        assertStatements("/v1/workspaces/" + workspaceId + "/issues/groups/TO_DO?groupBy=status&limit=5", 5, 3);
+        assertStatements("/v1/workspaces/" + workspaceId + "/issues/groups/Project 1?groupBy=project&limit=5", 5, 3);
+    }
+
+    // The issue rows go out as one JDBC batch per changed column set, which Hibernate's statistics do not see,
+    // so the count stays the same however many issues change.
+    @Test
+    void bulkUpdate() {
+        List<IssueBulkUpdateItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < ISSUES; i++) {
+            IssueBulkUpdateItemDTO item = new IssueBulkUpdateItemDTO();
+            item.setId(issueIds.get(i));
+            if (i % 3 != 1) {
+                item.setTitle("Renamed " + i);
+            }
+            if (i % 3 != 0) {
+                item.setPriority(Priority.values()[(i + 1) % Priority.values().length]);
+            }
+            items.add(item);
+        }
+        IssueBulkUpdateDTO bulk = new IssueBulkUpdateDTO();
+        bulk.setIssues(items);
+
+        statistics.clear();
+        issueService.updateAll(workspaceId, bulk, user);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+
+        for (int i = 0; i < ISSUES; i++) {
+            Issue issue = issueService.getById(workspaceId, issueIds.get(i), user);
+            assertThat(issue.getTitle()).isEqualTo(i % 3 != 1 ? "Renamed " + i : "Issue " + i);
+            int priority = i % 3 != 0 ? i + 1 : i;
+            assertThat(issue.getPriority()).isEqualTo(Priority.values()[priority % Priority.values().length]);
+            assertThat(issue.getVersion()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void groupPageTotalCountsOnlyThatGroup() throws Exception {
+        mockMvc.perform(get("/v1/workspaces/" + workspaceId + "/issues/groups/TO_DO?groupBy=status&limit=5")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.data.total").value(ISSUES / Status.values().length))
+                .andExpect(jsonPath("$.data.items.length()").value(5));
+        mockMvc.perform(get("/v1/workspaces/" + workspaceId + "/issues/groups/None?groupBy=project&limit=5")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.data.total").value(ISSUES / 4));
+    }
+}
@@ -0,0 +1,163 @@
+package com.strukfit.taskmanager.v1.auth.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.strukfit.taskmanager.v1.auth.email.enums.EmailOutboxStatus;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Delivers outbox emails to an in-process GreenMail SMTP server. Requires a PostgreSQL database through the
+ * usual SPRING_DATASOURCE_* variables. Scheduled polling is pushed out of the way and each test drives the
+ * dispatcher itself.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.port=3025",
+        "spring.mail.properties.mail.smtp.connectiontimeout=1000",
+        "app.mail.outbox.poll-interval=PT1H",
+        "app.mail.outbox.purge-interval=PT1H",
+        "app.mail.outbox.concurrency=1",
+        "app.mail.outbox.max-attempts=3",
+        "app.mail.outbox.backoff=PT10M",
+        "app.mail.outbox.max-backoff=PT1H" })
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class EmailOutboxDispatcherTests {
+    private static final Duration BACKOFF = Duration.ofMinutes(10);
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @MockitoSpyBean
+    private JavaMailSender mailSender;
+
+    private GreenMail greenMail;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository.deleteAll();
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        clearInvocations(mailSender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        greenMail.stop();
+    }
+
+    private EmailOutbox reload(EmailOutbox email) {
+        return emailOutboxRepository.findById(email.getId()).orElseThrow();
+    }
+
+    private void makeDue(EmailOutbox email) {
+        EmailOutbox current = reload(email);
+        current.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        emailOutboxRepository.save(current);
+    }
+
+    @Test
+    void deliversBatchOverOneConnection() throws Exception {
+        List<EmailOutbox> emails = List.of(
+                emailService.enqueuePasswordResetEmail("first@example.com", "token-1"),
+                emailService.enqueuePasswordResetEmail("second@example.com", "token-2"),
+                emailService.enqueuePasswordResetEmail("third@example.com", "token-3"));
+
+        dispatcher.dispatch();
+
+        // JavaMailSenderImpl sends an array of messages through a single transport connection.
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received).extracting(message -> message.getAllRecipients()[0].toString())
+                .containsExactlyInAnyOrder("first@example.com", "second@example.com", "third@example.com");
+        assertThat(emailOutboxRepository.findAllById(emails.stream().map(EmailOutbox::getId).toList())).isEmpty();
+    }
+
+    @Test
+    void retriesWithBackoffWhileServerIsDown() {
+        greenMail.stop();
+        EmailOutbox email = emailService.enqueuePasswordResetEmail("retry@example.com", "token");
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        EmailOutbox first = reload(email);
+        assertThat(first.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).isNotBlank();
+        assertThat(first.getNextAttemptAt()).isBetween(before.plus(BACKOFF), LocalDateTime.now().plus(BACKOFF));
+
+        makeDue(email);
+        before = LocalDateTime.now();
+        dispatcher.dispatch();
+        EmailOutbox second = reload(email);
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(second.getNextAttemptAt())
+                .isBetween(before.plus(BACKOFF.multipliedBy(2)), LocalDateTime.now().plus(BACKOFF.multipliedBy(2)));
+
+        // Not due yet, so nothing is attempted.
+        dispatcher.dispatch();
+        assertThat(reload(email).getAttempts()).isEqualTo(2);
+
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        makeDue(email);
+        dispatcher.dispatch();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(emailOutboxRepository.findById(email.getId())).isEmpty();
+    }
+
+    @Test
+    void givesUpAfterMaxAttemptsAndPurgesTheRow() {
+        greenMail.stop();
+        EmailOutbox email = emailService.enqueuePasswordResetEmail("gone@example.com", "secret-token");
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            dispatcher.dispatch();
+            assertThat(reload(email).getAttempts()).isEqualTo(attempt);
+            makeDue(email);
+        }
+
+        EmailOutbox failed = reload(email);
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(failed.getBody()).doesNotContain("secret-token");
+
+        // A FAILED row is never claimed again, even when due.
+        dispatcher.dispatch();
+        assertThat(reload(email).getAttempts()).isEqualTo(3);
+
+        dispatcher.purgeFailed();
+        assertThat(emailOutboxRepository.findById(email.getId())).isPresent();
+        failed = reload(email);
+        failed.setCreatedAt(LocalDateTime.now().minusDays(8));
+        emailOutboxRepository.save(failed);
+        dispatcher.purgeFailed();
+        assertThat(emailOutboxRepository.findById(email.getId())).isEmpty();
+    }
+}
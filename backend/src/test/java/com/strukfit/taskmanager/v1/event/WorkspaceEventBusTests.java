@@ -0,0 +1,40 @@
+package com.strukfit.taskmanager.v1.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkspaceEventBusTests {
+    private final WorkspaceEventBus bus = new WorkspaceEventBus(new SimpleMeterRegistry(), new MockEnvironment(), 1,
+            1);
+
+    @AfterEach
+    void shutdown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void parsesSequenceFromOwnEventIds() {
+        assertThat(bus.parseSequence(bus.eventId(42))).isEqualTo(42L);
+    }
+
+    @Test
+    void treatsMissingLastEventIdAsFreshSubscription() {
+        assertThat(bus.parseSequence(null)).isNull();
+        assertThat(bus.parseSequence(" ")).isNull();
+    }
+
+    @Test
+    void forcesResetForIdsFromAnotherEpochOrMalformedIds() {
+        WorkspaceEventBus restarted = new WorkspaceEventBus(new SimpleMeterRegistry(), new MockEnvironment(), 1, 1);
+        assertThat(bus.parseSequence("0-7")).isEqualTo(-1L);
+        assertThat(bus.parseSequence("garbage")).isEqualTo(-1L);
+        assertThat(bus.parseSequence(bus.eventId(1) + "x")).isEqualTo(-1L);
+        assertThat(restarted.parseSequence(restarted.eventId(3))).isEqualTo(3L);
+        restarted.shutdown();
+    }
+}
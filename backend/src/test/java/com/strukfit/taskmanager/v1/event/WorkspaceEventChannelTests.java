@@ -0,0 +1,79 @@
+package com.strukfit.taskmanager.v1.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class WorkspaceEventChannelTests {
+    private final Map<Long, Set<DataWithMediaType>> events = new HashMap<>();
+
+    private Set<DataWithMediaType> event(long sequence) {
+        return events.computeIfAbsent(sequence,
+                s -> SseEmitter.event().id(Long.toString(s)).data("e" + s).build());
+    }
+
+    private WorkspaceEventChannel channelWith(int historySize, int count) {
+        WorkspaceEventChannel channel = new WorkspaceEventChannel(historySize);
+        for (long i = 1; i <= count; i++) {
+            assertThat(channel.nextSequence()).isEqualTo(i);
+            channel.append(event(i));
+        }
+        return channel;
+    }
+
+    @Test
+    void replaysEverythingAfterLastSeenSequence() {
+        WorkspaceEventChannel channel = channelWith(8, 5);
+
+        assertThat(channel.since(2)).containsExactly(event(3), event(4), event(5));
+        assertThat(channel.since(0)).containsExactly(event(1), event(2), event(3), event(4), event(5));
+    }
+
+    @Test
+    void replaysNothingWhenClientIsCurrent() {
+        WorkspaceEventChannel channel = channelWith(8, 5);
+
+        assertThat(channel.since(5)).isEmpty();
+        assertThat(new WorkspaceEventChannel(8).since(0)).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyTheLastHistorySizeEventsOnceTheRingWraps() {
+        WorkspaceEventChannel channel = channelWith(4, 10);
+
+        assertThat(channel.since(6)).containsExactly(event(7), event(8), event(9), event(10));
+        assertThat(channel.since(8)).containsExactly(event(9), event(10));
+    }
+
+    @Test
+    void signalsResetWhenEventsWereOverwritten() {
+        WorkspaceEventChannel channel = channelWith(4, 10);
+
+        assertThat(channel.since(5)).isNull();
+        assertThat(channel.since(0)).isNull();
+    }
+
+    @Test
+    void signalsResetForSequencesFromTheFutureOrAnotherEpoch() {
+        WorkspaceEventChannel channel = channelWith(4, 3);
+
+        assertThat(channel.since(4)).isNull();
+        assertThat(channel.since(-1)).isNull();
+    }
+
+    @Test
+    void replayMatchesTheOrderEventsWereAppended() {
+        WorkspaceEventChannel channel = channelWith(3, 7);
+
+        List<Set<DataWithMediaType>> replay = channel.since(4);
+
+        assertThat(replay).containsExactly(event(5), event(6), event(7));
+    }
+}
@@ -0,0 +1,61 @@
+package com.strukfit.taskmanager.v1.issue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class IssueCursorTests {
+
+    @Test
+    void roundTripsThroughEncode() {
+        IssueCursor cursor = new IssueCursor("status", "TO_DO", "createdAt", "desc", "2025-01-01T10:00:00", 42L);
+
+        IssueCursor decoded = IssueCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodesAsUrlSafeBase64WithoutPadding() {
+        IssueCursor cursor = new IssueCursor("project", "Ünïcode / project?", "title", "asc", "a+b/c", 7L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(IssueCursor.decode(encoded).getGroup()).isEqualTo("Ünïcode / project?");
+    }
+
+    @Test
+    void matchesIgnoresCase() {
+        IssueCursor cursor = new IssueCursor("status", "DONE", "createdAt", "desc", "v", 1L);
+
+        assertThat(cursor.matches("STATUS", "createdat", "DESC")).isTrue();
+        assertThat(cursor.matches("priority", "createdAt", "desc")).isFalse();
+        assertThat(cursor.matches("status", "title", "desc")).isFalse();
+        assertThat(cursor.matches("status", "createdAt", "asc")).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> IssueCursor.decode("not base64!"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid cursor");
+
+        String notJson = Base64.getUrlEncoder().encodeToString("hello".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> IssueCursor.decode(notJson))
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsCursorWithMissingFields() {
+        String json = "{\"groupBy\":\"status\",\"group\":\"DONE\",\"sortBy\":\"createdAt\",\"sortOrder\":\"desc\"}";
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> IssueCursor.decode(encoded))
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -0,0 +1,51 @@
+package com.strukfit.taskmanager.v1.issue.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import com.strukfit.taskmanager.v1.issue.counter.IssueCounterService.CounterKey;
+import com.strukfit.taskmanager.v1.issue.enums.CounterDimension;
+
+class CounterKeyOrderTests {
+
+    @Test
+    void ordersByDimensionOrdinalThenGroupKey() {
+        List<CounterKey> keys = new ArrayList<>(List.of(
+                new CounterKey(CounterDimension.PROJECT, "10"),
+                new CounterKey(CounterDimension.PRIORITY, "HIGH"),
+                new CounterKey(CounterDimension.STATUS, "TO_DO"),
+                new CounterKey(CounterDimension.PROJECT, "-1"),
+                new CounterKey(CounterDimension.STATUS, "BACKLOG"),
+                new CounterKey(CounterDimension.PROJECT, "2"),
+                new CounterKey(CounterDimension.PROJECT, "1")));
+
+        Collections.sort(keys);
+
+        assertThat(keys).containsExactly(
+                new CounterKey(CounterDimension.STATUS, "BACKLOG"),
+                new CounterKey(CounterDimension.STATUS, "TO_DO"),
+                new CounterKey(CounterDimension.PRIORITY, "HIGH"),
+                new CounterKey(CounterDimension.PROJECT, "-1"),
+                new CounterKey(CounterDimension.PROJECT, "1"),
+                new CounterKey(CounterDimension.PROJECT, "10"),
+                new CounterKey(CounterDimension.PROJECT, "2"));
+    }
+
+    @Test
+    void lockQueryOrdersDimensionsLikeCounterKey() throws NoSuchMethodException {
+        String query = IssueCounterRepository.class.getMethod("findByWorkspaceIdForUpdate", Long.class)
+                .getAnnotation(Query.class).value();
+
+        CounterDimension[] dimensions = CounterDimension.values();
+        for (int i = 0; i < dimensions.length; i++) {
+            assertThat(query).contains("when '" + dimensions[i].name() + "' then " + i);
+        }
+        assertThat(query).contains("collate \"C\"").endsWith("for update");
+    }
+}
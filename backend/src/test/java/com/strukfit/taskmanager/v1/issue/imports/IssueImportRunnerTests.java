@@ -0,0 +1,117 @@
+package com.strukfit.taskmanager.v1.issue.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportDTO;
+import com.strukfit.taskmanager.v1.issue.dto.IssueImportErrorDTO;
+import com.strukfit.taskmanager.v1.issue.enums.ImportStatus;
+import com.strukfit.taskmanager.v1.user.User;
+import com.strukfit.taskmanager.v1.user.UserRepository;
+import com.strukfit.taskmanager.v1.workspace.WorkspaceService;
+import com.strukfit.taskmanager.v1.workspace.dto.WorkspaceCreateDTO;
+
+/**
+ * Runs imports with malformed records end to end. Requires a PostgreSQL database through the usual
+ * SPRING_DATASOURCE_* variables.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IssueImportRunnerTests {
+    @Autowired
+    private IssueImportService issueImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    private User user;
+    private Long workspaceId;
+
+    @BeforeAll
+    void seed() {
+        String name = "import-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPasswordHash("unused");
+        user = userRepository.save(user);
+
+        WorkspaceCreateDTO workspace = new WorkspaceCreateDTO();
+        workspace.setName(name);
+        workspaceId = workspaceService.create(workspace, user).getId();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        workspaceService.delete(workspaceId, user);
+        userRepository.delete(user);
+    }
+
+    private IssueImportDTO runImport(String format, String body) throws InterruptedException {
+        IssueImportDTO started = issueImportService.start(workspaceId, format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), user);
+        for (int i = 0; i < 200; i++) {
+            IssueImportDTO current = issueImportService.getById(workspaceId, started.getId(), user);
+            if (current.getStatus() == ImportStatus.COMPLETED || current.getStatus() == ImportStatus.FAILED) {
+                return current;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import did not finish");
+    }
+
+    @Test
+    void csvLineWithTooManyColumnsFailsOnlyThatRow() throws Exception {
+        IssueImportDTO result = runImport("csv", "title,status\n"
+                + "First,TO_DO\n"
+                + "Second,TO_DO,extra\n"
+                + "Third,DONE\n");
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.getProcessedRows()).isEqualTo(3);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(IssueImportErrorDTO::getRow).containsExactly(2L);
+    }
+
+    @Test
+    void ndjsonFieldOfWrongTypeFailsOnlyThatRow() throws Exception {
+        IssueImportDTO result = runImport("ndjson", "{\"title\":\"First\"}\n"
+                + "{\"title\":{\"nested\":[1,2]},\"status\":\"DONE\"}\n"
+                + "{\"title\":\"Third\",\"status\":[\"DONE\"]}\n"
+                + "{\"title\":\"Fourth\"}\n");
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.getProcessedRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(IssueImportErrorDTO::getRow).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void brokenJsonSyntaxFailsTheImport() throws Exception {
+        IssueImportDTO result = runImport("ndjson", "{\"title\":\"First\"}\n"
+                + "{\"title\":\"Second\n"
+                + "{\"title\":\"Third\"}\n");
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.getImportedRows()).isZero();
+    }
+}
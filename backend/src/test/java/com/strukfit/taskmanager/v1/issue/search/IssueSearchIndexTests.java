@@ -0,0 +1,116 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.strukfit.taskmanager.v1.event.WorkspaceEvent;
+import com.strukfit.taskmanager.v1.issue.IssueRepository;
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+class IssueSearchIndexTests {
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile List<IndexedIssue> stored = List.of(issue(1, "alpha"), issue(2, "alpha beta"));
+    private volatile IndexedIssue refreshed;
+
+    private static IndexedIssue issue(long id, String title) {
+        return new IndexedIssue(id, title, null, Status.TO_DO, Priority.LOW, null, 0L);
+    }
+
+    private IssueSearchIndex searchIndex(boolean blockFirstLoad) {
+        IssueRepository repository = (IssueRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IssueRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findIndexedByWorkspaceId" -> {
+                            List<IndexedIssue> snapshot = stored;
+                            if (loads.getAndIncrement() == 0 && blockFirstLoad) {
+                                loading.countDown();
+                                release.await(5, TimeUnit.SECONDS);
+                            }
+                            return snapshot;
+                        }
+                        case "findIndexedById" -> {
+                            return Optional.ofNullable(refreshed);
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        IssueSearchIndex searchIndex = new IssueSearchIndex();
+        ReflectionTestUtils.setField(searchIndex, "issueRepository", repository);
+        return searchIndex;
+    }
+
+    private static IssueSearchDTO query(String q) {
+        IssueSearchDTO dto = new IssueSearchDTO();
+        dto.setQ(q);
+        return dto;
+    }
+
+    @Test
+    void skipsWritesForWorkspacesThatAreNotIndexed() {
+        IssueSearchIndex searchIndex = searchIndex(false);
+        refreshed = issue(3, "alpha gamma");
+
+        searchIndex.onWorkspaceEvent(new WorkspaceEvent(1L, WorkspaceEvent.ISSUE, WorkspaceEvent.CREATED, 3L, 0L));
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void appliesCommittedWritesToLoadedIndex() {
+        IssueSearchIndex searchIndex = searchIndex(false);
+        assertThat(searchIndex.search(1L, query("alpha")).getTotalElements()).isEqualTo(2);
+
+        refreshed = issue(3, "alpha gamma");
+        searchIndex.onWorkspaceEvent(new WorkspaceEvent(1L, WorkspaceEvent.ISSUE, WorkspaceEvent.CREATED, 3L, 0L));
+        searchIndex.onWorkspaceEvent(new WorkspaceEvent(1L, WorkspaceEvent.ISSUE, WorkspaceEvent.DELETED, 1L, null));
+
+        assertThat(searchIndex.search(1L, query("alpha")).getContent()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void replaysWritesThatArriveWhileIndexIsLoading() throws Exception {
+        IssueSearchIndex searchIndex = searchIndex(true);
+        CompletableFuture<Page<Long>> first = CompletableFuture.supplyAsync(() -> searchIndex.search(1L, query("alpha")));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        refreshed = issue(3, "alpha gamma");
+        searchIndex.onWorkspaceEvent(new WorkspaceEvent(1L, WorkspaceEvent.ISSUE, WorkspaceEvent.CREATED, 3L, 0L));
+        searchIndex.onWorkspaceEvent(new WorkspaceEvent(1L, WorkspaceEvent.ISSUE, WorkspaceEvent.DELETED, 2L, null));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(searchIndex.search(1L, query("alpha")).getContent()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictDuringLoadDiscardsTheLoadedIndex() throws Exception {
+        IssueSearchIndex searchIndex = searchIndex(true);
+        CompletableFuture<Page<Long>> first = CompletableFuture.supplyAsync(() -> searchIndex.search(1L, query("alpha")));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        stored = List.of(issue(5, "alpha"));
+        searchIndex.onWorkspaceEvent(new WorkspaceEvent(1L, WorkspaceEvent.IMPORT, WorkspaceEvent.COMPLETED, 9L, null));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(searchIndex.search(1L, query("alpha")).getContent()).containsExactly(5L);
+        assertThat(loads).hasValue(2);
+    }
+}
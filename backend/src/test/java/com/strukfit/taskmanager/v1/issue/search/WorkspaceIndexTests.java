@@ -0,0 +1,183 @@
+package com.strukfit.taskmanager.v1.issue.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.strukfit.taskmanager.v1.issue.dto.IssueSearchDTO;
+import com.strukfit.taskmanager.v1.issue.enums.Priority;
+import com.strukfit.taskmanager.v1.issue.enums.Status;
+
+class WorkspaceIndexTests {
+
+    private static IndexedIssue issue(long id, String title, String description) {
+        return issue(id, title, description, 0);
+    }
+
+    private static IndexedIssue issue(long id, String title, String description, long version) {
+        return new IndexedIssue(id, title, description, Status.TO_DO, Priority.MEDIUM, null, version);
+    }
+
+    private static WorkspaceIndex.Result search(WorkspaceIndex index, String query) {
+        return index.search(query, new IssueSearchDTO(), 0, 20);
+    }
+
+    @Test
+    void tokenizesOnNonAlphanumericCharacters() {
+        assertThat(WorkspaceIndex.tokenize("Login-Page: CRASH on iOS17!"))
+                .containsExactly("login", "page", "crash", "on", "ios17");
+        assertThat(WorkspaceIndex.tokenize(null)).isEmpty();
+        assertThat(WorkspaceIndex.tokenize("  ")).isEmpty();
+    }
+
+    @Test
+    void requiresEveryTermAndRanksTitleMatchesFirst() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(
+                issue(1, "Crash on login", null),
+                issue(2, "Settings page", "login crash in settings"),
+                issue(3, "Login is slow", null)));
+
+        WorkspaceIndex.Result result = search(index, "login crash");
+
+        assertThat(result.issueIds()).containsExactly(1L, 2L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void treatsLastTermAsPrefix() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(issue(1, "Export timeout", null), issue(2, "Export broken", null)));
+
+        assertThat(search(index, "export tim").issueIds()).containsExactly(1L);
+        assertThat(search(index, "expo").issueIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search(index, "tim export").issueIds()).isEmpty();
+    }
+
+    @Test
+    void returnsNothingForBlankQuery() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(issue(1, "Anything", null)));
+
+        assertThat(search(index, " -- ").total()).isZero();
+    }
+
+    @Test
+    void appliesFilters() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(
+                new IndexedIssue(1L, "sync bug", null, Status.TO_DO, Priority.HIGH, 10L, 0L),
+                new IndexedIssue(2L, "sync bug", null, Status.DONE, Priority.HIGH, 10L, 0L),
+                new IndexedIssue(3L, "sync bug", null, Status.TO_DO, Priority.LOW, null, 0L),
+                new IndexedIssue(4L, "sync bug", null, Status.TO_DO, Priority.HIGH, 20L, 0L)));
+
+        IssueSearchDTO filter = new IssueSearchDTO();
+        filter.setStatuses(List.of(Status.TO_DO));
+        filter.setPriorities(List.of(Priority.HIGH));
+        filter.setProjectIds(List.of(10L, -1L));
+        assertThat(index.search("sync", filter, 0, 20).issueIds()).containsExactly(1L);
+
+        IssueSearchDTO noProject = new IssueSearchDTO();
+        noProject.setProjectIds(List.of(-1L));
+        assertThat(index.search("sync", noProject, 0, 20).issueIds()).containsExactly(3L);
+    }
+
+    @Test
+    void upsertReplacesPreviousVersion() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(issue(1, "Old title", null)));
+
+        index.upsert(issue(1, "New title", null, 1));
+
+        assertThat(search(index, "old").total()).isZero();
+        assertThat(search(index, "new").issueIds()).containsExactly(1L);
+        assertThat(search(index, "title").total()).isEqualTo(1);
+    }
+
+    @Test
+    void upsertIgnoresSnapshotsOlderThanIndexed() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(issue(1, "First", null)));
+
+        index.upsert(issue(1, "Third", null, 2));
+        index.upsert(issue(1, "Second", null, 1));
+
+        assertThat(search(index, "second").total()).isZero();
+        assertThat(search(index, "third").issueIds()).containsExactly(1L);
+    }
+
+    @Test
+    void upsertIgnoresSnapshotsOfRemovedIssues() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(issue(1, "Stale", null)));
+
+        index.remove(1L);
+        index.upsert(issue(1, "Stale", null, 1));
+
+        assertThat(search(index, "stale").total()).isZero();
+    }
+
+    @Test
+    void removeHidesIssue() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(issue(1, "Gone", null), issue(2, "Gone too", null)));
+
+        index.remove(1L);
+        index.remove(99L);
+
+        assertThat(search(index, "gone").issueIds()).containsExactly(2L);
+    }
+
+    @Test
+    void repeatedSearchesDoNotCarryOverScores() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        index.addAll(List.of(
+                issue(1, "Crash", null),
+                issue(2, "Login", "crash crash"),
+                issue(3, "Crash on login", null)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(search(index, "login crash").issueIds()).containsExactly(3L, 2L);
+            assertThat(search(index, "crash").issueIds()).containsExactly(3L, 1L, 2L);
+        }
+    }
+
+    @Test
+    void pagesByOffset() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        List<IndexedIssue> issues = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            issues.add(issue(id, "paged", null));
+        }
+        index.addAll(issues);
+
+        WorkspaceIndex.Result first = index.search("paged", new IssueSearchDTO(), 0, 10);
+        WorkspaceIndex.Result last = index.search("paged", new IssueSearchDTO(), 20, 10);
+
+        assertThat(first.issueIds()).hasSize(10);
+        assertThat(last.issueIds()).hasSize(5);
+        assertThat(last.total()).isEqualTo(25);
+        assertThat(first.issueIds()).doesNotContainAnyElementsOf(last.issueIds());
+    }
+
+    @Test
+    void reportsFragmentationOnceMostDocumentsAreDeleted() {
+        WorkspaceIndex index = new WorkspaceIndex();
+        List<IndexedIssue> issues = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            issues.add(issue(id, "doc", null));
+        }
+        index.addAll(issues);
+
+        for (long id = 1; id <= 1500; id++) {
+            index.remove(id);
+        }
+        assertThat(index.isFragmented()).isFalse();
+
+        index.remove(1501L);
+        assertThat(index.isFragmented()).isTrue();
+    }
+}
@@ -0,0 +1,129 @@
+package com.strukfit.taskmanager.v1.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.strukfit.taskmanager.v1.ratelimit.enums.RateLimitKey;
+
+class TokenBucketLimiterTests {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private static final long START = 1_000 * SECOND;
+
+    private static TokenBucketLimiter limiter(String path, List<String> methods, int capacity, Duration period) {
+        return new TokenBucketLimiter(
+                new RateLimitProperties.Rule("test", path, methods, RateLimitKey.IP, capacity, period));
+    }
+
+    private static TokenBucketLimiter tenPerTenSeconds() {
+        return limiter("/v1/auth/login", List.of("POST"), 10, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        TokenBucketLimiter limiter = tenPerTenSeconds();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("client", START)).isZero();
+        }
+        assertThat(limiter.tryAcquire("client", START)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void rejectionsDoNotConsumeTokens() {
+        TokenBucketLimiter limiter = tenPerTenSeconds();
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("client", START);
+        }
+
+        assertThat(limiter.tryAcquire("client", START + SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire("client", START + SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire("client", START + SECOND)).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucketLimiter limiter = tenPerTenSeconds();
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("client", START);
+        }
+
+        long later = START + 3 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("client", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("client", later)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void idleTimeDoesNotGrowBurstBeyondCapacity() {
+        TokenBucketLimiter limiter = tenPerTenSeconds();
+        limiter.tryAcquire("client", START);
+
+        long muchLater = START + 3_600 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("client", muchLater)).isZero();
+        }
+        assertThat(limiter.tryAcquire("client", muchLater)).isPositive();
+    }
+
+    @Test
+    void keepsSeparateBucketsPerClient() {
+        TokenBucketLimiter limiter = limiter("/v1/auth/login", List.of("POST"), 1, Duration.ofSeconds(10));
+
+        assertThat(limiter.tryAcquire("10.0.0.1", START)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", START)).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.2", START)).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsOnlyFullyRefilledBuckets() {
+        TokenBucketLimiter limiter = tenPerTenSeconds();
+        limiter.tryAcquire("idle", START);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("busy", START + 5 * SECOND);
+        }
+
+        limiter.evictIdle(START + SECOND - 1);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        limiter.evictIdle(START + SECOND);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy", START + 5 * SECOND)).isPositive();
+
+        limiter.evictIdle(START + 15 * SECOND);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void evictedClientStartsWithFullBucket() {
+        TokenBucketLimiter limiter = limiter("/v1/auth/login", List.of("POST"), 2, Duration.ofSeconds(10));
+        limiter.tryAcquire("client", START);
+        limiter.tryAcquire("client", START);
+
+        limiter.evictIdle(START + 10 * SECOND);
+
+        assertThat(limiter.tryAcquire("client", START + 10 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("client", START + 10 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("client", START + 10 * SECOND)).isPositive();
+    }
+
+    @Test
+    void matchesExactPathsAndPrefixes() {
+        TokenBucketLimiter exact = tenPerTenSeconds();
+        TokenBucketLimiter prefix = limiter("/v1/**", List.of("POST", "DELETE"), 10, Duration.ofSeconds(10));
+        TokenBucketLimiter anyMethod = limiter("/v1/auth/password/reset/**", List.of(), 10, Duration.ofSeconds(10));
+
+        assertThat(exact.matches("POST", "/v1/auth/login")).isTrue();
+        assertThat(exact.matches("GET", "/v1/auth/login")).isFalse();
+        assertThat(exact.matches("POST", "/v1/auth/login/extra")).isFalse();
+        assertThat(prefix.matches("DELETE", "/v1/workspaces/1")).isTrue();
+        assertThat(prefix.matches("GET", "/v1/workspaces/1")).isFalse();
+        assertThat(prefix.matches("POST", "/v2/workspaces")).isFalse();
+        assertThat(anyMethod.matches("GET", "/v1/auth/password/reset/confirm")).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package com.strukfit.taskmanager.v1.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class SyncTokenTests {
+    private static final LocalDateTime SETTLED = LocalDateTime.of(2025, 6, 1, 12, 0, 0);
+
+    @Test
+    void roundTripsThroughEncode() {
+        SyncToken token = new SyncToken(LocalDateTime.of(2025, 6, 1, 11, 59, 30, 123456000), 42L);
+
+        SyncToken decoded = SyncToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+        assertThat(decoded.updatedAtValue()).isEqualTo(LocalDateTime.of(2025, 6, 1, 11, 59, 30, 123456000));
+    }
+
+    @Test
+    void keepsTokenAtOrBeforeSettledTime() {
+        SyncToken before = new SyncToken(SETTLED.minusNanos(1000), 7L);
+        SyncToken at = new SyncToken(SETTLED, 7L);
+
+        assertThat(before.capAt(SETTLED)).isSameAs(before);
+        assertThat(at.capAt(SETTLED)).isSameAs(at);
+    }
+
+    @Test
+    void capsTokenPastSettledTime() {
+        SyncToken after = new SyncToken(SETTLED.plusSeconds(5), 7L);
+
+        SyncToken capped = after.capAt(SETTLED);
+
+        assertThat(capped.updatedAtValue()).isEqualTo(SETTLED);
+        assertThat(capped.getId()).isZero();
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> SyncToken.decode("not base64!"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid sync token");
+
+        String badDate = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"updatedAt\":\"yesterday\",\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> SyncToken.decode(badDate))
+                .hasMessage("Invalid sync token");
+    }
+
+    @Test
+    void rejectsTokenWithMissingFields() {
+        String encoded = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"updatedAt\":\"2025-06-01T12:00\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SyncToken.decode(encoded))
+                .hasMessage("Invalid sync token");
+    }
+}
@@ -0,0 +1,67 @@
+package com.strukfit.taskmanager.v1.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserCacheTests {
+    private final UserCache cache = new UserCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Optional<User> load(Long id) {
+        loads.incrementAndGet();
+        User user = new User();
+        user.setId(id);
+        user.setUsername("alice");
+        user.setEmail("alice@example.com");
+        user.setPasswordHash("hash");
+        return Optional.of(user);
+    }
+
+    @Test
+    void loadsOnceAndReturnsCopies() {
+        User first = cache.get(1L, this::load).orElseThrow();
+        User second = cache.get(1L, this::load).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void callerMutationsDoNotLeakIntoCache() {
+        User first = cache.get(1L, this::load).orElseThrow();
+        first.setUsername("mallory");
+        first.setEmail("mallory@example.com");
+
+        User second = cache.get(1L, this::load).orElseThrow();
+
+        assertThat(second.getUsername()).isEqualTo("alice");
+        assertThat(second.getEmail()).isEqualTo("alice@example.com");
+    }
+
+    @Test
+    void doesNotKeepPasswordHash() {
+        assertThat(cache.get(1L, this::load).orElseThrow().getPasswordHash()).isNull();
+    }
+
+    @Test
+    void invalidateReloads() {
+        cache.get(1L, this::load);
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        assertThat(cache.get(2L, id -> Optional.empty())).isEmpty();
+        assertThat(cache.get(2L, this::load)).isPresent();
+    }
+}
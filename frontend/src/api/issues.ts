@@ -1,7 +1,13 @@
 import { ApiError, ApiResponse, BaseParamsConfig } from '@/types/common';
 import apiClient from './api-client';
 import { API_ROUTES } from '@/constants/api';
-import { Issue, IssueCreate, IssueEdit, IssuesResponse } from '@/schemas/issue';
+import {
+  Issue,
+  IssueCreate,
+  IssueEdit,
+  IssuePage,
+  IssuePagesResponse,
+} from '@/schemas/issue';
 import { IssueGroupBy, IssuePriority, IssueStatus } from '@/constants/issue';
 
 interface FilterParams {
@@ -14,14 +20,19 @@ export type IssueFilterParams = keyof FilterParams;
 
 export interface GetIssuesParams extends BaseParamsConfig, FilterParams {
   groupBy?: IssueGroupBy;
+  limit?: number;
+}
+
+export interface GetIssueGroupPageParams extends GetIssuesParams {
+  cursor?: string;
 }
 
 export const getIssues = async (
   workspaceId: number,
   params?: GetIssuesParams
-): Promise<IssuesResponse> => {
+): Promise<IssuePagesResponse> => {
   try {
-    const response = await apiClient.get<ApiResponse<IssuesResponse>>(
+    const response = await apiClient.get<ApiResponse<IssuePagesResponse>>(
       API_ROUTES.issues.issues(workspaceId),
       { params }
     );
@@ -34,6 +45,25 @@ export const getIssues = async (
   }
 };
 
+export const getIssueGroupPage = async (
+  workspaceId: number,
+  group: string,
+  params?: GetIssueGroupPageParams
+): Promise<IssuePage> => {
+  try {
+    const response = await apiClient.get<ApiResponse<IssuePage>>(
+      `${API_ROUTES.issues.issues(workspaceId)}/groups/${encodeURIComponent(group)}`,
+      { params }
+    );
+    return response.data.data;
+  } catch (error) {
+    const axiosError = error as ApiError;
+    throw new Error(
+      axiosError.response?.data?.message || 'Failed to fetch issues'
+    );
+  }
+};
+
 export const getIssueById = async (
   workspaceId: number,
   id: number
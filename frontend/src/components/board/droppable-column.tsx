@@ -8,18 +8,22 @@ import { useDroppable } from '@dnd-kit/core';
 import { Column } from '@/types/board';
 import { useState } from 'react';
 import { Button } from '../ui/button';
-import { Plus } from 'lucide-react';
+import { Loader2, Plus } from 'lucide-react';
 
 interface DroppableColumnProps {
   columnId: string;
   column: Column;
   onOpenCreateDialog?: (initValue: string) => void;
+  onLoadMore?: (groupKey: string) => void;
+  isLoadingMore?: boolean;
 }
 
 export default function DroppableColumn({
   columnId,
   column,
   onOpenCreateDialog,
+  onLoadMore,
+  isLoadingMore,
 }: DroppableColumnProps) {
   const { isOver, setNodeRef } = useDroppable({
     id: columnId,
@@ -40,6 +44,9 @@ export default function DroppableColumn({
             <div className="flex flex-row gap-2">
               {column.icon}
               {column.name}
+              <span className="text-muted-foreground font-normal">
+                {column.total}
+              </span>
             </div>
           </CardTitle>
           <div>
@@ -71,6 +78,20 @@ export default function DroppableColumn({
                   ))}
                 </div>
               )}
+              {column.hasMore && (
+                <Button
+                  variant="ghost"
+                  className="w-full text-sm"
+                  disabled={isLoadingMore}
+                  onClick={() => onLoadMore?.(column.groupKey)}
+                >
+                  {isLoadingMore ? (
+                    <Loader2 className="h-4 w-4 animate-spin" />
+                  ) : (
+                    `Load more (${column.total - column.issues.length})`
+                  )}
+                </Button>
+              )}
               <Button
                 variant="outline"
                 hidden={!isHovered}
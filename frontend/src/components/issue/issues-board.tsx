@@ -61,6 +61,8 @@ export default function IssuesBoard() {
   const {
     data: issues,
     updateIssue,
+    loadMore,
+    loadingGroup,
     isLoading: issuesLoading,
   } = useIssues(workspaceId, config);
   const { data: projects, isLoading: projectsLoading } = useProjects(
@@ -79,11 +81,15 @@ export default function IssuesBoard() {
   const memoColumns = useMemo(() => {
     const columns: Columns = {};
     items.forEach(item => {
+      const page = issues[item.key];
       columns[item.id] = {
         id: item.id,
+        groupKey: item.key,
         name: item.name,
         icon: item.icon,
-        issues: issues[item.key] || [],
+        issues: page?.items || [],
+        total: page?.total ?? 0,
+        hasMore: !!page?.nextCursor,
       };
     });
     return columns;
@@ -211,6 +217,18 @@ export default function IssuesBoard() {
     [strategy, localColumns, memoColumns, updateIssue]
   );
 
+  const onLoadMore = useCallback(
+    async (groupKey: string) => {
+      try {
+        await loadMore(groupKey);
+      } catch (err) {
+        const error = err as Error;
+        toast(error.message || 'Failed to load issues');
+      }
+    },
+    [loadMore]
+  );
+
   const openDialog = (initValue: string) => {
     const initValues = strategy.getFieldUpdate(initValue);
     setDialogInitValues(initValues);
@@ -246,6 +264,8 @@ export default function IssuesBoard() {
                   columnId={columnId}
                   column={column}
                   onOpenCreateDialog={openDialog}
+                  onLoadMore={onLoadMore}
+                  isLoadingMore={loadingGroup === column.groupKey}
                 />
               ))}
               <CreateIssueDialog
@@ -61,7 +61,7 @@ export const GROUPING_CONFIG: Record<IssueGroupBy, GroupingStrategy> = {
     getExtraItems: () => [
       {
         id: '-1',
-        key: '-1',
+        key: 'None',
         name: 'No project',
         icon: getProjectIcon('-1'),
       },
@@ -2,11 +2,18 @@ import {
   createIssue,
   deleteIssue,
   getIssueById,
+  getIssueGroupPage,
   getIssues,
   GetIssuesParams,
   updateIssue,
 } from '@/api/issues';
-import { Issue, IssueCreate, IssueEdit, IssuesResponse } from '@/schemas/issue';
+import {
+  Issue,
+  IssueCreate,
+  IssueEdit,
+  IssuePage,
+  IssuePagesResponse,
+} from '@/schemas/issue';
 import {
   QueryClient,
   useMutation,
@@ -27,13 +34,15 @@ export const QUERY_KEYS = {
   issue: (workspaceId: number, id: number) => ['issue', workspaceId, id],
 } as const;
 
-export const DEFAULT_ISSUES_RESPONSE: IssuesResponse = {
-  BACKLOG: [],
-  TO_DO: [],
-  IN_PROGRESS: [],
-  DONE: [],
-  CANCELED: [],
-  DUPLICATE: [],
+const EMPTY_PAGE: IssuePage = { items: [], nextCursor: null, total: 0 };
+
+export const DEFAULT_ISSUES_RESPONSE: IssuePagesResponse = {
+  BACKLOG: EMPTY_PAGE,
+  TO_DO: EMPTY_PAGE,
+  IN_PROGRESS: EMPTY_PAGE,
+  DONE: EMPTY_PAGE,
+  CANCELED: EMPTY_PAGE,
+  DUPLICATE: EMPTY_PAGE,
 } as const;
 
 const getGroupKey = (issue: Issue, config: IssuesQueryConfig) =>
@@ -42,9 +51,24 @@ const getGroupKey = (issue: Issue, config: IssuesQueryConfig) =>
     : config.groupBy === 'priority'
       ? issue.priority
       : config.groupBy === 'project'
-        ? issue.project?.id?.toString() || '-1'
+        ? issue.project?.name || 'None'
         : 'all';
 
+const addToPage = (page: IssuePage = EMPTY_PAGE, issue: Issue): IssuePage => ({
+  ...page,
+  items: [...page.items, issue],
+  total: page.total + 1,
+});
+
+const removeFromPage = (page: IssuePage, issueId: number): IssuePage => ({
+  ...page,
+  items: page.items.filter(i => i.id !== issueId),
+  total: Math.max(page.total - 1, 0),
+});
+
+const findGroupKey = (pages: IssuePagesResponse, issueId: number) =>
+  Object.keys(pages).find(key => pages[key].items.some(i => i.id === issueId));
+
 const useCreateIssueMutation = (
   queryClient: QueryClient,
   workspaceId: number,
@@ -53,13 +77,11 @@ const useCreateIssueMutation = (
   useMutation({
     mutationFn: (issue: IssueCreate) => createIssue(workspaceId, issue),
     onSuccess: newIssue => {
-      queryClient.setQueryData<IssuesResponse>(
+      queryClient.setQueryData<IssuePagesResponse>(
         QUERY_KEYS.issuesList(workspaceId, config),
         (old = DEFAULT_ISSUES_RESPONSE) => {
           const groupKey = getGroupKey(newIssue, config);
-          const newIssues = { ...old };
-          newIssues[groupKey] = [...(newIssues[groupKey] || []), newIssue];
-          return newIssues;
+          return { ...old, [groupKey]: addToPage(old[groupKey], newIssue) };
         }
       );
       queryClient.invalidateQueries({
@@ -79,28 +101,22 @@ const useUpdateIssueMutation = (
   useMutation({
     mutationFn: (issue: IssueEdit) => updateIssue(workspaceId, issue),
     onSuccess: updatedIssue => {
-      queryClient.setQueryData<IssuesResponse>(
+      queryClient.setQueryData<IssuePagesResponse>(
         QUERY_KEYS.issuesList(workspaceId, config),
         (old = {}) => {
-          const oldIssues = { ...old };
-          const oldGroupKey = Object.keys(old).find(key =>
-            old[key].some(i => i.id === updatedIssue.id)
-          );
+          const oldGroupKey = findGroupKey(old, updatedIssue.id);
           if (!oldGroupKey) return old;
 
-          oldIssues[oldGroupKey] = old[oldGroupKey].filter(
-            i => i.id !== updatedIssue.id
-          );
+          const oldIssues = {
+            ...old,
+            [oldGroupKey]: removeFromPage(old[oldGroupKey], updatedIssue.id),
+          };
 
           const newGroupKey = getGroupKey(updatedIssue, config);
-
-          oldIssues[newGroupKey] = [
-            ...(oldIssues[newGroupKey] || []),
-            updatedIssue,
-          ];
-
-          if (oldIssues[oldGroupKey].length === 0)
-            delete oldIssues[oldGroupKey];
+          oldIssues[newGroupKey] = addToPage(
+            oldIssues[newGroupKey],
+            updatedIssue
+          );
 
           return oldIssues;
         }
@@ -126,23 +142,17 @@ const useDeleteIssueMutation = (
         queryKey: QUERY_KEYS.issuesList(workspaceId, config),
       });
 
-      const previousIssues = queryClient.getQueryData<IssuesResponse>(
+      const previousIssues = queryClient.getQueryData<IssuePagesResponse>(
         QUERY_KEYS.issuesList(workspaceId, config)
       );
 
-      queryClient.setQueryData<IssuesResponse>(
+      queryClient.setQueryData<IssuePagesResponse>(
         QUERY_KEYS.issuesList(workspaceId, config),
         (old = {}) => {
-          const newIssues = { ...old };
-          const groupKey = Object.keys(old).find(key =>
-            old[key].some(i => i.id === issueId)
-          );
+          const groupKey = findGroupKey(old, issueId);
           if (!groupKey) return old;
 
-          newIssues[groupKey] = old[groupKey].filter(i => i.id !== issueId);
-          if (newIssues[groupKey].length === 0) delete newIssues[groupKey];
-
-          return newIssues;
+          return { ...old, [groupKey]: removeFromPage(old[groupKey], issueId) };
         }
       );
 
@@ -164,6 +174,43 @@ const useDeleteIssueMutation = (
     },
   });
 
+const useLoadMoreIssuesMutation = (
+  queryClient: QueryClient,
+  workspaceId: number,
+  config: IssuesQueryConfig = {}
+) =>
+  useMutation({
+    mutationFn: (group: string) => {
+      const pages = queryClient.getQueryData<IssuePagesResponse>(
+        QUERY_KEYS.issuesList(workspaceId, config)
+      );
+      const cursor = pages?.[group]?.nextCursor;
+      if (!cursor) return Promise.resolve(null);
+      return getIssueGroupPage(workspaceId, group, { ...config, cursor });
+    },
+    onSuccess: (page, group) => {
+      if (!page) return;
+      queryClient.setQueryData<IssuePagesResponse>(
+        QUERY_KEYS.issuesList(workspaceId, config),
+        (old = {}) => {
+          const current = old[group] || EMPTY_PAGE;
+          const seen = new Set(current.items.map(i => i.id));
+          return {
+            ...old,
+            [group]: {
+              items: [
+                ...current.items,
+                ...page.items.filter(i => !seen.has(i.id)),
+              ],
+              nextCursor: page.nextCursor,
+              total: page.total,
+            },
+          };
+        }
+      );
+    },
+  });
+
 export const useIssues = (
   workspaceId: number,
   config: IssuesQueryConfig = {}
@@ -172,7 +219,7 @@ export const useIssues = (
 
   const { enabled = true } = config;
 
-  const issuesQuery = useQuery<IssuesResponse, AxiosError>({
+  const issuesQuery = useQuery<IssuePagesResponse, AxiosError>({
     queryKey: QUERY_KEYS.issuesList(workspaceId, config),
     queryFn: () => getIssues(workspaceId, config),
     enabled,
@@ -198,6 +245,12 @@ export const useIssues = (
     config
   );
 
+  const loadMoreIssuesMutation = useLoadMoreIssuesMutation(
+    queryClient,
+    workspaceId,
+    config
+  );
+
   return {
     data: issuesQuery.data || DEFAULT_ISSUES_RESPONSE,
     isLoading: issuesQuery.isLoading,
@@ -206,6 +259,10 @@ export const useIssues = (
     createIssue: createIssueMutation.mutateAsync,
     updateIssue: updateIssueMutation.mutateAsync,
     deleteIssue: deleteIssueMutation.mutateAsync,
+    loadMore: loadMoreIssuesMutation.mutateAsync,
+    loadingGroup: loadMoreIssuesMutation.isPending
+      ? loadMoreIssuesMutation.variables
+      : undefined,
   };
 };
 
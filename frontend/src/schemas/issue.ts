@@ -28,7 +28,17 @@ export const editIssueSchema = issueSchema.omit({ project: true }).extend({
 
 export const issuesResponseSchema = z.record(z.string(), z.array(issueSchema));
 
+export const issuePageSchema = z.object({
+  items: z.array(issueSchema),
+  nextCursor: z.string().nullable().optional(),
+  total: z.number(),
+});
+
+export const issuePagesResponseSchema = z.record(z.string(), issuePageSchema);
+
 export type IssuesResponse = z.infer<typeof issuesResponseSchema>;
+export type IssuePage = z.infer<typeof issuePageSchema>;
+export type IssuePagesResponse = z.infer<typeof issuePagesResponseSchema>;
 export type Issue = z.infer<typeof issueSchema>;
 export type IssueCreate = z.infer<typeof createIssueSchema>;
 export type IssueEdit = z.infer<typeof editIssueSchema>;
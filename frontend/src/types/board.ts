@@ -2,9 +2,12 @@ import { Issue } from '@/schemas/issue';
 
 export interface Column {
   id: string;
+  groupKey: string;
   name: string;
   icon?: React.ReactNode;
   issues: Issue[];
+  total: number;
+  hasMore: boolean;
 }
 
 export type Columns = Record<string, Column>;